@@ -0,0 +1,61 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enables an in-process cache of documents read by id using
+ * {@link org.springframework.data.aerospike.core.AerospikeTemplate}. <br/><br/> Cached documents are invalidated by
+ * writes through the same template only, writes by other clients are seen after the cached document expires, or on the
+ * next read if {@link #validate()} is set. Records are cached rather than documents, each read maps its own document
+ * instance that may be modified by the caller. Documents with touch on read and reads that use a query or map to a
+ * different target class are not cached.
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface NearCache {
+
+    /**
+     * Maximum number of cached documents, the least recently used ones are evicted first.
+     */
+    int maxSize() default 10_000;
+
+    /**
+     * Time to live of a cached document. Zero or a negative value means that documents do not expire.
+     */
+    long ttl() default 60;
+
+    /**
+     * Time unit of {@link #ttl()}. Default is {@link TimeUnit#SECONDS}.
+     */
+    TimeUnit ttlUnit() default TimeUnit.SECONDS;
+
+    /**
+     * An optional flag indicating whether a cached document should be validated on each read by reading the record
+     * header (without bins) and comparing the record's generation. The document is read again if the generation has
+     * changed.
+     */
+    boolean validate() default false;
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables buffered saving of documents using {@link org.springframework.data.aerospike.core.AerospikeTemplate}.
+ * <br/><br/> A saved document is not written immediately. Saves of the same key are coalesced (the last one wins) and
+ * written in batches every
+ * {@link org.springframework.data.aerospike.config.AerospikeDataSettings#getWriteBehindFlushIntervalMillis()}, so reads
+ * may not see the latest saves until then. Write errors are logged and counted in
+ * {@link org.springframework.data.aerospike.core.WriteBehindMetrics}, they are not returned to the caller. <br/> Not
+ * supported for documents with a {@link org.springframework.data.annotation.Version} property.
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface WriteBehind {
+
+}
@@ -15,9 +15,12 @@
  */
 package org.springframework.data.aerospike.cache;
 
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Bin;
 import com.aerospike.client.IAerospikeClient;
 import com.aerospike.client.Key;
 import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
 import com.aerospike.client.policy.RecordExistsAction;
 import com.aerospike.client.policy.WritePolicy;
 import org.springframework.cache.Cache;
@@ -27,18 +30,33 @@ import org.springframework.data.aerospike.convert.AerospikeReadData;
 import org.springframework.data.aerospike.convert.AerospikeWriteData;
 import org.springframework.data.aerospike.core.WritePolicyBuilder;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A Cache {@link org.springframework.cache.Cache} implementation backed by Aerospike database as store. Create and
  * configure Aerospike cache instances via {@link AerospikeCacheManager}.
+ * <p>
+ * When enabled in the {@link AerospikeCacheConfiguration}, values read from Aerospike are also kept in an in-process
+ * local cache. Changes are written to Aerospike first and published by key using the given
+ * {@link LocalCacheInvalidation}, so that other instances stop returning their local values of the changed keys.
+ * <p>
+ * Concurrent {@link #get(Object, Callable)} calls for the same missing key run the value loader only once, the other
+ * callers wait for its value. With a load lock enabled in the {@link AerospikeCacheConfiguration} this also applies
+ * across instances.
  *
  * @author Venil Noronha
  */
 public class AerospikeCache implements Cache {
 
-    private static final String VALUE = "value";
+    private static final String LOCK_SET_SUFFIX = "-lock";
+    private static final String LOCK_BIN = "lock";
+    private static final long DEFAULT_LOAD_LOCK_POLL_INTERVAL_MILLIS = 50;
 
     private final String name;
     private final IAerospikeClient client;
@@ -46,11 +64,25 @@ public class AerospikeCache implements Cache {
     private final AerospikeCacheConfiguration cacheConfiguration;
     private final WritePolicy createOnly;
     private final WritePolicy writePolicyForPut;
+    private final LocalCache localCache;
+    private final LocalCacheInvalidation localCacheInvalidation;
+    private final WritePolicy loadLockPolicy;
+    private final long loadLockPollIntervalMillis;
+    private final long loadLockWaitTimeoutNanos;
+    private final Map<String, CompletableFuture<Object>> loads = new ConcurrentHashMap<>();
 
     public AerospikeCache(String name,
                           IAerospikeClient client,
                           AerospikeConverter aerospikeConverter,
                           AerospikeCacheConfiguration cacheConfiguration) {
+        this(name, client, aerospikeConverter, cacheConfiguration, new VersionRecordInvalidation(client));
+    }
+
+    public AerospikeCache(String name,
+                          IAerospikeClient client,
+                          AerospikeConverter aerospikeConverter,
+                          AerospikeCacheConfiguration cacheConfiguration,
+                          LocalCacheInvalidation localCacheInvalidation) {
         this.name = name;
         this.client = client;
         this.aerospikeConverter = aerospikeConverter;
@@ -62,6 +94,23 @@ public class AerospikeCache implements Cache {
         this.writePolicyForPut = WritePolicyBuilder.builder(client.getWritePolicyDefault())
             .expiration(cacheConfiguration.getExpirationInSeconds())
             .build();
+        this.localCache = cacheConfiguration.isLocalCacheEnabled()
+            ? new LocalCache(cacheConfiguration.getLocalCacheMaxSize(),
+            TimeUnit.MILLISECONDS.toNanos(cacheConfiguration.getLocalCacheTtlInMillis()))
+            : null;
+        this.localCacheInvalidation = localCacheInvalidation;
+        this.loadLockPolicy = cacheConfiguration.isLoadLockEnabled()
+            ? WritePolicyBuilder.builder(client.getWritePolicyDefault())
+            .recordExistsAction(RecordExistsAction.CREATE_ONLY)
+            .expiration(cacheConfiguration.getLoadLockExpirationInSeconds())
+            .build()
+            : null;
+        this.loadLockPollIntervalMillis = cacheConfiguration.getLoadLockPollIntervalInMillis() > 0
+            ? cacheConfiguration.getLoadLockPollIntervalInMillis()
+            : DEFAULT_LOAD_LOCK_POLL_INTERVAL_MILLIS;
+        this.loadLockWaitTimeoutNanos = cacheConfiguration.getLoadLockWaitTimeoutInMillis() > 0
+            ? TimeUnit.MILLISECONDS.toNanos(cacheConfiguration.getLoadLockWaitTimeoutInMillis())
+            : TimeUnit.SECONDS.toNanos(cacheConfiguration.getLoadLockExpirationInSeconds());
     }
 
     /**
@@ -70,6 +119,10 @@ public class AerospikeCache implements Cache {
     @Override
     public void clear() {
         client.truncate(null, cacheConfiguration.getNamespace(), cacheConfiguration.getSet(), null);
+        if (localCache != null) {
+            localCache.clear();
+            localCacheInvalidation.publish(this, null);
+        }
     }
 
     /**
@@ -80,6 +133,7 @@ public class AerospikeCache implements Cache {
     @Override
     public void evict(Object key) {
         client.delete(null, getKey(key));
+        invalidateLocalCache(key);
     }
 
     /**
@@ -92,6 +146,15 @@ public class AerospikeCache implements Cache {
         return name;
     }
 
+    /**
+     * Get cache's configuration.
+     *
+     * @return The cache's configuration.
+     */
+    public AerospikeCacheConfiguration getCacheConfiguration() {
+        return cacheConfiguration;
+    }
+
     /**
      * Get the underlying native cache provider - the Aerospike client.
      *
@@ -106,6 +169,9 @@ public class AerospikeCache implements Cache {
      * Return the value (bins) from the Aerospike database to which this cache maps the specified key, obtaining that
      * value from valueLoader if necessary. This method provides a simple substitute for the conventional "if cached,
      * return; otherwise create, cache and return" pattern.
+     * <p>
+     * The value loader of a missing key is called only once at a time, concurrent callers for the same key wait for
+     * its value (or failure) instead.
      *
      * @param key         The key whose associated value is to be returned.
      * @param valueLoader The value loader that might contain the value (bins).
@@ -114,18 +180,106 @@ public class AerospikeCache implements Cache {
     @Override
     @SuppressWarnings({"unchecked", "NullableProblems"})
     public <T> T get(Object key, Callable<T> valueLoader) {
-        T value = (T) client.get(null, getKey(key)).getValue(VALUE);
-        if (Objects.isNull(value)) {
-            try {
-                value = valueLoader.call();
-                if (Objects.nonNull(value)) {
-                    put(key, value);
+        Object value = get(key, Object.class);
+        if (Objects.nonNull(value)) {
+            return (T) value;
+        }
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> existingLoad = loads.putIfAbsent(key.toString(), load);
+        if (existingLoad != null) {
+            return (T) awaitLoad(existingLoad);
+        }
+        try {
+            // a load for the same key may have finished between the first read and registering this one
+            value = get(key, Object.class);
+            if (Objects.isNull(value)) {
+                value = loadLockPolicy == null ? loadAndPut(key, valueLoader) : loadAndPutWithLock(key, valueLoader);
+            }
+            load.complete(value);
+            return (T) value;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(key.toString(), load);
+        }
+    }
+
+    private Object awaitLoad(CompletableFuture<Object> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    private Object loadAndPut(Object key, Callable<?> valueLoader) {
+        try {
+            Object value = valueLoader.call();
+            if (Objects.nonNull(value)) {
+                put(key, value);
+            }
+            return value;
+        } catch (Exception e) {
+            throw new Cache.ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    /**
+     * Load the value while holding the lock record of the key, or poll for the value loaded by the instance holding
+     * it. A lock left by a failed instance expires after the configured load lock expiration. The value is loaded
+     * without the lock if it is neither loaded nor the lock acquired within the configured load lock wait timeout.
+     */
+    private Object loadAndPutWithLock(Object key, Callable<?> valueLoader) {
+        Key lockKey = getLockKey(key);
+        long waitDeadline = System.nanoTime() + loadLockWaitTimeoutNanos;
+        while (true) {
+            if (tryLock(lockKey)) {
+                try {
+                    // the previous lock holder may have loaded the value just before releasing the lock
+                    Object value = get(key, Object.class);
+                    return Objects.nonNull(value) ? value : loadAndPut(key, valueLoader);
+                } finally {
+                    unlock(lockKey);
                 }
-            } catch (Exception e) {
+            }
+            Object value = get(key, Object.class);
+            if (Objects.nonNull(value)) {
+                return value;
+            }
+            if (System.nanoTime() - waitDeadline >= 0) {
+                return loadAndPut(key, valueLoader);
+            }
+            try {
+                Thread.sleep(loadLockPollIntervalMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
                 throw new Cache.ValueRetrievalException(key, valueLoader, e);
             }
         }
-        return value;
+    }
+
+    private boolean tryLock(Key lockKey) {
+        try {
+            client.put(loadLockPolicy, lockKey, new Bin(LOCK_BIN, 1));
+            return true;
+        } catch (AerospikeException e) {
+            if (e.getResultCode() == ResultCode.KEY_EXISTS_ERROR) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private void unlock(Key lockKey) {
+        try {
+            client.delete(null, lockKey);
+        } catch (AerospikeException e) {
+            // the lock record expires anyway, do not hide the result of loading the value
+        }
     }
 
     /**
@@ -139,7 +293,32 @@ public class AerospikeCache implements Cache {
      * the cache contains no mapping for this key.
      */
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T get(Object key, Class<T> type) {
+        if (localCache == null) {
+            return getFromAerospike(key, type);
+        }
+        String localKey = key.toString();
+        LocalCache.Entry entry = localCache.get(localKey);
+        if (entry != null && (type == null || type.isInstance(entry.value()))) {
+            if (localCacheInvalidation.isCurrent(this, key, entry.version())) {
+                return (T) entry.value();
+            }
+            localCache.invalidate(localKey);
+        }
+        Object version = null;
+        T value = null;
+        long loadVersion = localCache.startLoad(localKey);
+        try {
+            version = localCacheInvalidation.getVersion(this, key);
+            value = getFromAerospike(key, type);
+        } finally {
+            localCache.finishLoad(localKey, value, version, loadVersion);
+        }
+        return value;
+    }
+
+    private <T> T getFromAerospike(Object key, Class<T> type) {
         Key dbKey = getKey(key);
         Record aeroRecord = client.get(null, dbKey);
         if (aeroRecord != null) {
@@ -174,6 +353,7 @@ public class AerospikeCache implements Cache {
     @Override
     public void put(Object key, Object value) {
         serializeAndPut(writePolicyForPut, key, value);
+        invalidateLocalCache(key);
     }
 
     /**
@@ -192,6 +372,7 @@ public class AerospikeCache implements Cache {
         }
         // Key doesn't exist, write the new given key-value to Aerospike database and return null
         serializeAndPut(createOnly, key, value);
+        invalidateLocalCache(key);
         return null;
     }
 
@@ -199,6 +380,18 @@ public class AerospikeCache implements Cache {
         return new Key(cacheConfiguration.getNamespace(), cacheConfiguration.getSet(), key.toString());
     }
 
+    private Key getLockKey(Object key) {
+        String set = cacheConfiguration.getSet() == null ? "cache" : cacheConfiguration.getSet();
+        return new Key(cacheConfiguration.getNamespace(), set + LOCK_SET_SUFFIX, key.toString());
+    }
+
+    private void invalidateLocalCache(Object key) {
+        if (localCache != null) {
+            localCache.invalidate(key.toString());
+            localCacheInvalidation.publish(this, key);
+        }
+    }
+
     private void serializeAndPut(WritePolicy writePolicy, Object key, Object value) {
         AerospikeWriteData data = AerospikeWriteData.forWrite(getKey(key).namespace);
         aerospikeConverter.write(value, data);
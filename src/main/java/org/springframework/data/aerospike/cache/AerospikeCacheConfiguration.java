@@ -21,6 +21,14 @@ import lombok.Getter;
 /**
  * Default set is null meaning write directly to the namespace. Default expiration is 0 meaning use the server's default
  * namespace configuration variable "default-ttl".
+ * <p>
+ * A positive local cache size enables an in-process cache in front of Aerospike holding up to that many values, each
+ * for up to the local cache time to live (0 meaning until evicted by size or invalidated).
+ * <p>
+ * A positive load lock expiration makes {@link AerospikeCache#get(Object, java.util.concurrent.Callable)} load a
+ * missing value in one application instance at a time, guarded by a lock record expiring after that many seconds.
+ * Other instances poll for the loaded value every load lock poll interval meanwhile (0 meaning 50 milliseconds), for up
+ * to the load lock wait timeout (0 meaning the load lock expiration). After that they load the value themselves.
  */
 @Getter
 @AllArgsConstructor
@@ -29,6 +37,27 @@ public class AerospikeCacheConfiguration {
     private final String namespace;
     private final String set;
     private final int expirationInSeconds;
+    private final int localCacheMaxSize;
+    private final long localCacheTtlInMillis;
+    private final int loadLockExpirationInSeconds;
+    private final long loadLockPollIntervalInMillis;
+    private final long loadLockWaitTimeoutInMillis;
+
+    public AerospikeCacheConfiguration(String namespace, String set, int expirationInSeconds,
+                                       int localCacheMaxSize, long localCacheTtlInMillis,
+                                       int loadLockExpirationInSeconds, long loadLockPollIntervalInMillis) {
+        this(namespace, set, expirationInSeconds, localCacheMaxSize, localCacheTtlInMillis,
+            loadLockExpirationInSeconds, loadLockPollIntervalInMillis, 0);
+    }
+
+    public AerospikeCacheConfiguration(String namespace, String set, int expirationInSeconds,
+                                       int localCacheMaxSize, long localCacheTtlInMillis) {
+        this(namespace, set, expirationInSeconds, localCacheMaxSize, localCacheTtlInMillis, 0, 0);
+    }
+
+    public AerospikeCacheConfiguration(String namespace, String set, int expirationInSeconds) {
+        this(namespace, set, expirationInSeconds, 0, 0);
+    }
 
     public AerospikeCacheConfiguration(String namespace) {
         this(namespace, null, 0);
@@ -41,4 +70,12 @@ public class AerospikeCacheConfiguration {
     public AerospikeCacheConfiguration(String namespace, int expirationInSeconds) {
         this(namespace, null, expirationInSeconds);
     }
+
+    public boolean isLocalCacheEnabled() {
+        return localCacheMaxSize > 0;
+    }
+
+    public boolean isLoadLockEnabled() {
+        return loadLockExpirationInSeconds > 0;
+    }
 }
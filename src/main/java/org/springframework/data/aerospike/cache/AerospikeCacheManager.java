@@ -35,7 +35,11 @@ import java.util.Map;
  * <br>
  * Setting {@link #setTransactionAware(boolean)} to <code>true</code> will force Caches to be decorated as
  * {@link TransactionAwareCacheDecorator} so values will only be written to the cache after successful commit of
- * surrounding transaction.
+ * surrounding transaction. <br>
+ * <br>
+ * Caches with a local cache enabled in their {@link AerospikeCacheConfiguration} use the
+ * {@link LocalCacheInvalidation} set via {@link #setLocalCacheInvalidation(LocalCacheInvalidation)}, by default a
+ * {@link VersionRecordInvalidation}.
  *
  * @author Venil Noronha
  */
@@ -45,6 +49,7 @@ public class AerospikeCacheManager extends AbstractTransactionSupportingCacheMan
     private final AerospikeConverter aerospikeConverter;
     private final AerospikeCacheConfiguration defaultCacheConfiguration;
     private final Map<String, AerospikeCacheConfiguration> initialPerCacheConfiguration;
+    private LocalCacheInvalidation localCacheInvalidation;
 
     /**
      * Create a new {@link AerospikeCacheManager} instance - Specifying a default cache configuration.
@@ -80,6 +85,18 @@ public class AerospikeCacheManager extends AbstractTransactionSupportingCacheMan
         this.aerospikeConverter = aerospikeConverter;
         this.defaultCacheConfiguration = defaultCacheConfiguration;
         this.initialPerCacheConfiguration = initialPerCacheConfiguration;
+        this.localCacheInvalidation = new VersionRecordInvalidation(aerospikeClient);
+    }
+
+    /**
+     * Set the invalidation of local caches across application instances, has to be called before the caches are
+     * created.
+     *
+     * @param localCacheInvalidation the instance that implements {@link LocalCacheInvalidation}.
+     */
+    public void setLocalCacheInvalidation(LocalCacheInvalidation localCacheInvalidation) {
+        Assert.notNull(localCacheInvalidation, "The local cache invalidation must not be null");
+        this.localCacheInvalidation = localCacheInvalidation;
     }
 
     @Override
@@ -105,11 +122,12 @@ public class AerospikeCacheManager extends AbstractTransactionSupportingCacheMan
     }
 
     private AerospikeCache createCache(String name) {
-        return new AerospikeCache(name, aerospikeClient, aerospikeConverter, defaultCacheConfiguration);
+        return createCache(name, defaultCacheConfiguration);
     }
 
     private AerospikeCache createCache(String name, AerospikeCacheConfiguration cacheConfiguration) {
-        return new AerospikeCache(name, aerospikeClient, aerospikeConverter, cacheConfiguration);
+        return new AerospikeCache(name, aerospikeClient, aerospikeConverter, cacheConfiguration,
+            localCacheInvalidation);
     }
 
     private boolean isCacheAlreadyDecorated(Cache cache) {
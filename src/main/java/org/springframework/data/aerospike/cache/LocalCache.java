@@ -0,0 +1,111 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.cache;
+
+import org.springframework.lang.Nullable;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * In-process cache of values in front of an {@link AerospikeCache}, bounded by size (least recently used values are
+ * removed first) and by time to live.
+ * <p>
+ * Invalidating a key also rejects values of the same key that were being read concurrently, so a value read before a
+ * change can not be cached after it.
+ */
+class LocalCache {
+
+    private final long ttlNanos;
+    private final Map<String, Entry> entries;
+    // keys being read, guarded by this
+    private final Map<String, Load> loads = new HashMap<>();
+
+    LocalCache(int maxSize, long ttlNanos) {
+        this.ttlNanos = ttlNanos;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Nullable
+    synchronized Entry get(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && ttlNanos > 0 && System.nanoTime() - entry.expiresAt() > 0) {
+            entries.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Start reading a value from Aerospike, has to be followed by {@link #finishLoad(String, Object, Object, long)}.
+     *
+     * @return Load version of the key that has to be passed to {@link #finishLoad(String, Object, Object, long)}
+     */
+    synchronized long startLoad(String key) {
+        Load load = loads.computeIfAbsent(key, k -> new Load());
+        load.readers++;
+        return load.version;
+    }
+
+    /**
+     * Cache a value read since {@link #startLoad(String)} unless its key has been invalidated meanwhile.
+     *
+     * @param value   Value that has been read, {@literal null} if it does not exist or reading failed
+     * @param version Version of the key given by {@link LocalCacheInvalidation#getVersion(AerospikeCache, Object)}
+     */
+    synchronized void finishLoad(String key, @Nullable Object value, @Nullable Object version, long loadVersion) {
+        Load load = loads.get(key);
+        if (value != null && load.version == loadVersion) {
+            entries.put(key, new Entry(value, version, System.nanoTime() + ttlNanos));
+        }
+        if (--load.readers == 0) {
+            loads.remove(key);
+        }
+    }
+
+    synchronized void invalidate(String key) {
+        entries.remove(key);
+        Load load = loads.get(key);
+        if (load != null) {
+            load.version++;
+        }
+    }
+
+    synchronized void clear() {
+        entries.clear();
+        loads.values().forEach(load -> load.version++);
+    }
+
+    /**
+     * Concurrent reads of a key, the version is incremented by every invalidation of the key while it is being read.
+     */
+    private static class Load {
+
+        private int readers;
+        private long version;
+    }
+
+    record Entry(Object value, @Nullable Object version, long expiresAt) {
+
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.cache;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Invalidation of the local caches of {@link AerospikeCache}s across application instances sharing the same Aerospike
+ * store. Only used by caches with a local cache enabled in their {@link AerospikeCacheConfiguration}.
+ * <p>
+ * A version of the key is read before its value is read from Aerospike and kept with the locally cached value, a local
+ * cache hit is only returned while that version is current.
+ *
+ * @see VersionRecordInvalidation
+ */
+public interface LocalCacheInvalidation {
+
+    /**
+     * Local caches are only bounded by their time to live, changes made by other instances are not detected.
+     */
+    LocalCacheInvalidation NONE = new LocalCacheInvalidation() {
+
+        @Override
+        public void publish(AerospikeCache cache, @Nullable Object key) {
+        }
+
+        @Override
+        public Object getVersion(AerospikeCache cache, Object key) {
+            return null;
+        }
+
+        @Override
+        public boolean isCurrent(AerospikeCache cache, Object key, @Nullable Object version) {
+            return true;
+        }
+    };
+
+    /**
+     * Publish a change of the cache made by this instance, called after the change has been written to Aerospike.
+     *
+     * @param cache The changed cache
+     * @param key   The changed key, {@literal null} if the cache has been cleared
+     */
+    void publish(AerospikeCache cache, @Nullable Object key);
+
+    /**
+     * Called before the value of a key is read from Aerospike to be cached locally.
+     *
+     * @param cache The cache to read from
+     * @param key   The key to read
+     * @return Current version of the key, kept with the locally cached value
+     */
+    @Nullable
+    Object getVersion(AerospikeCache cache, Object key);
+
+    /**
+     * Called before a value is returned from the local cache.
+     *
+     * @param cache   The cache to read from
+     * @param key     The key to read
+     * @param version The version of the key returned by {@link #getVersion(AerospikeCache, Object)} when the value was
+     *                read
+     * @return Whether the value may be returned, otherwise it is read from Aerospike again
+     */
+    boolean isCurrent(AerospikeCache cache, Object key, @Nullable Object version);
+}
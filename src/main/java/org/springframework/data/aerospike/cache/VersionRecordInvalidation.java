@@ -0,0 +1,140 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.cache;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.policy.WritePolicy;
+import org.springframework.data.aerospike.core.WritePolicyBuilder;
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LocalCacheInvalidation} using version records.
+ * <p>
+ * Every change of a key writes a random version to the version record of that key, clearing the cache writes one to
+ * the version record of the cache. A locally cached value is returned while both versions read before the value are
+ * unchanged, they are read again at most once per check interval of each cached value. So a change only invalidates
+ * the changed key in other instances, and there is no version record written by every change of the cache.
+ * <p>
+ * Version records are stored in the set of the cache suffixed with {@value #VERSION_SET_SUFFIX}, so clearing the cache
+ * does not remove them. The version record of a key expires together with the cached value, a random version makes
+ * sure that a record created again after expiration does not repeat a version seen before.
+ */
+public class VersionRecordInvalidation implements LocalCacheInvalidation {
+
+    public static final String VERSION_SET_SUFFIX = "-version";
+    public static final long DEFAULT_CHECK_INTERVAL_MILLIS = 1000;
+    private static final String VERSION_BIN = "version";
+
+    private final IAerospikeClient client;
+    private final long checkIntervalNanos;
+    private final WritePolicy cacheVersionPolicy;
+
+    public VersionRecordInvalidation(IAerospikeClient client) {
+        this(client, DEFAULT_CHECK_INTERVAL_MILLIS);
+    }
+
+    /**
+     * @param client              The aerospike client
+     * @param checkIntervalMillis Maximum time changes made by other instances may stay unnoticed, 0 means checking the
+     *                            version records before every local cache hit
+     */
+    public VersionRecordInvalidation(IAerospikeClient client, long checkIntervalMillis) {
+        this.client = client;
+        this.checkIntervalNanos = TimeUnit.MILLISECONDS.toNanos(checkIntervalMillis);
+        this.cacheVersionPolicy = WritePolicyBuilder.builder(client.getWritePolicyDefault())
+            .expiration(-1)
+            .build();
+    }
+
+    @Override
+    public void publish(AerospikeCache cache, @Nullable Object key) {
+        Bin version = new Bin(VERSION_BIN, ThreadLocalRandom.current().nextLong());
+        if (key == null) {
+            client.put(cacheVersionPolicy, getCacheVersionKey(cache), version);
+        } else {
+            WritePolicy keyVersionPolicy = WritePolicyBuilder.builder(client.getWritePolicyDefault())
+                .expiration(cache.getCacheConfiguration().getExpirationInSeconds())
+                .build();
+            client.put(keyVersionPolicy, getKeyVersionKey(cache, key), version);
+        }
+    }
+
+    @Override
+    public Object getVersion(AerospikeCache cache, Object key) {
+        return readVersion(cache, key, System.nanoTime());
+    }
+
+    @Override
+    public boolean isCurrent(AerospikeCache cache, Object key, @Nullable Object version) {
+        if (!(version instanceof Version cachedVersion)) {
+            return false;
+        }
+        long now = System.nanoTime();
+        if (now - cachedVersion.nextCheckAt < 0) {
+            return true;
+        }
+        Version currentVersion = readVersion(cache, key, now);
+        if (currentVersion.cacheVersion != cachedVersion.cacheVersion
+            || currentVersion.keyVersion != cachedVersion.keyVersion) {
+            return false;
+        }
+        cachedVersion.nextCheckAt = currentVersion.nextCheckAt;
+        return true;
+    }
+
+    private Version readVersion(AerospikeCache cache, Object key, long now) {
+        Key[] keys = {getCacheVersionKey(cache), getKeyVersionKey(cache, key)};
+        Record[] records = client.get(null, keys, VERSION_BIN);
+        return new Version(getVersion(records[0]), getVersion(records[1]), now + checkIntervalNanos);
+    }
+
+    private static long getVersion(@Nullable Record versionRecord) {
+        return versionRecord == null ? 0 : versionRecord.getLong(VERSION_BIN);
+    }
+
+    private static Key getCacheVersionKey(AerospikeCache cache) {
+        return new Key(cache.getCacheConfiguration().getNamespace(), getVersionSet(cache), cache.getName());
+    }
+
+    private static Key getKeyVersionKey(AerospikeCache cache, Object key) {
+        return new Key(cache.getCacheConfiguration().getNamespace(), getVersionSet(cache),
+            cache.getName() + "/" + key);
+    }
+
+    private static String getVersionSet(AerospikeCache cache) {
+        String set = cache.getCacheConfiguration().getSet();
+        return (set == null ? "cache" : set) + VERSION_SET_SUFFIX;
+    }
+
+    private static class Version {
+
+        private final long cacheVersion;
+        private final long keyVersion;
+        private volatile long nextCheckAt;
+
+        Version(long cacheVersion, long keyVersion, long nextCheckAt) {
+            this.cacheVersion = cacheVersion;
+            this.keyVersion = keyVersion;
+            this.nextCheckAt = nextCheckAt;
+        }
+    }
+}
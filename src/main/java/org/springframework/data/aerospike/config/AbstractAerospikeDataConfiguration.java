@@ -33,6 +33,7 @@ import org.springframework.data.aerospike.query.cache.IndexInfoParser;
 import org.springframework.data.aerospike.query.cache.IndexRefresher;
 import org.springframework.data.aerospike.query.cache.IndexesCacheUpdater;
 import org.springframework.data.aerospike.query.cache.InternalIndexOperations;
+import org.springframework.data.aerospike.server.info.ClusterInfoService;
 import org.springframework.data.aerospike.server.version.ServerVersionSupport;
 
 @Slf4j
@@ -45,9 +46,13 @@ public abstract class AbstractAerospikeDataConfiguration extends AerospikeDataCo
                                                AerospikeMappingContext aerospikeMappingContext,
                                                AerospikeExceptionTranslator aerospikeExceptionTranslator,
                                                QueryEngine queryEngine, IndexRefresher indexRefresher,
-                                               ServerVersionSupport serverVersionSupport) {
-        return new AerospikeTemplate(aerospikeClient, nameSpace(), mappingAerospikeConverter,
+                                               ServerVersionSupport serverVersionSupport,
+                                               ClusterInfoService clusterInfoService) {
+        AerospikeTemplate template = new AerospikeTemplate(aerospikeClient, nameSpace(), mappingAerospikeConverter,
             aerospikeMappingContext, aerospikeExceptionTranslator, queryEngine, indexRefresher, serverVersionSupport);
+        template.setMetrics(aerospikeMetrics());
+        template.setClusterInfoService(clusterInfoService);
+        return template;
     }
 
     @Bean(name = "aerospikeQueryEngine")
@@ -61,6 +66,13 @@ public abstract class AbstractAerospikeDataConfiguration extends AerospikeDataCo
         long queryMaxRecords = aerospikeDataSettings().getQueryMaxRecords();
         log.debug("AerospikeDataSettings.queryMaxRecords: {}", queryMaxRecords);
         queryEngine.setQueryMaxRecords(queryMaxRecords);
+        int queryParallelism = aerospikeDataSettings().getQueryParallelism();
+        log.debug("AerospikeDataSettings.queryParallelism: {}", queryParallelism);
+        queryEngine.setQueryParallelism(queryParallelism);
+        boolean queryParallelOrdered = aerospikeDataSettings().isQueryParallelOrdered();
+        log.debug("AerospikeDataSettings.queryParallelOrdered: {}", queryParallelOrdered);
+        queryEngine.setQueryParallelOrdered(queryParallelOrdered);
+        queryEngine.setSlowOperationLog(slowOperationLog());
         return queryEngine;
     }
 
@@ -78,9 +90,11 @@ public abstract class AbstractAerospikeDataConfiguration extends AerospikeDataCo
 
     @Bean(name = "aerospikeIndexRefresher")
     public IndexRefresher indexRefresher(IAerospikeClient aerospikeClient, IndexesCacheUpdater indexesCacheUpdater,
-                                         ServerVersionSupport serverVersionSupport) {
+                                         ServerVersionSupport serverVersionSupport,
+                                         ClusterInfoService clusterInfoService) {
         IndexRefresher refresher = new IndexRefresher(aerospikeClient, aerospikeClient.getInfoPolicyDefault(),
-            new InternalIndexOperations(new IndexInfoParser()), indexesCacheUpdater, serverVersionSupport);
+            new InternalIndexOperations(new IndexInfoParser()), indexesCacheUpdater, serverVersionSupport,
+            clusterInfoService);
         refresher.refreshIndexes();
         int refreshFrequency = aerospikeDataSettings().getIndexCacheRefreshSeconds();
         processCacheRefreshFrequency(refreshFrequency, refresher);
@@ -37,6 +37,7 @@ import org.springframework.data.aerospike.query.cache.IndexInfoParser;
 import org.springframework.data.aerospike.query.cache.IndexesCacheUpdater;
 import org.springframework.data.aerospike.query.cache.InternalIndexOperations;
 import org.springframework.data.aerospike.query.cache.ReactorIndexRefresher;
+import org.springframework.data.aerospike.server.info.ClusterInfoService;
 import org.springframework.data.aerospike.server.version.ServerVersionSupport;
 
 /**
@@ -56,9 +57,11 @@ public abstract class AbstractReactiveAerospikeDataConfiguration extends Aerospi
                                                                ReactorQueryEngine reactorQueryEngine,
                                                                ReactorIndexRefresher reactorIndexRefresher,
                                                                ServerVersionSupport serverVersionSupport) {
-        return new ReactiveAerospikeTemplate(aerospikeReactorClient, nameSpace(), mappingAerospikeConverter,
-            aerospikeMappingContext, aerospikeExceptionTranslator, reactorQueryEngine, reactorIndexRefresher,
-            serverVersionSupport);
+        ReactiveAerospikeTemplate template = new ReactiveAerospikeTemplate(aerospikeReactorClient, nameSpace(),
+            mappingAerospikeConverter, aerospikeMappingContext, aerospikeExceptionTranslator, reactorQueryEngine,
+            reactorIndexRefresher, serverVersionSupport);
+        template.setMetrics(aerospikeMetrics());
+        return template;
     }
 
     @Bean(name = "reactiveAerospikeQueryEngine")
@@ -73,16 +76,28 @@ public abstract class AbstractReactiveAerospikeDataConfiguration extends Aerospi
         long queryMaxRecords = aerospikeDataSettings().getQueryMaxRecords();
         log.debug("AerospikeDataSettings.queryMaxRecords: {}", queryMaxRecords);
         queryEngine.setQueryMaxRecords(queryMaxRecords);
+        int queryParallelism = aerospikeDataSettings().getQueryParallelism();
+        log.debug("AerospikeDataSettings.queryParallelism: {}", queryParallelism);
+        queryEngine.setQueryParallelism(queryParallelism);
+        boolean queryParallelOrdered = aerospikeDataSettings().isQueryParallelOrdered();
+        log.debug("AerospikeDataSettings.queryParallelOrdered: {}", queryParallelOrdered);
+        queryEngine.setQueryParallelOrdered(queryParallelOrdered);
+        int queryPrefetch = aerospikeDataSettings().getQueryPrefetch();
+        log.debug("AerospikeDataSettings.queryPrefetch: {}", queryPrefetch);
+        queryEngine.setQueryPrefetch(queryPrefetch);
+        queryEngine.setSlowOperationLog(slowOperationLog());
         return queryEngine;
     }
 
     @Bean(name = "reactiveAerospikeIndexRefresher")
     public ReactorIndexRefresher reactorIndexRefresher(IAerospikeReactorClient aerospikeReactorClient,
                                                        IndexesCacheUpdater indexesCacheUpdater,
-                                                       ServerVersionSupport serverVersionSupport) {
+                                                       ServerVersionSupport serverVersionSupport,
+                                                       ClusterInfoService clusterInfoService) {
         ReactorIndexRefresher refresher = new ReactorIndexRefresher(aerospikeReactorClient,
             aerospikeReactorClient.getInfoPolicyDefault(),
-            new InternalIndexOperations(new IndexInfoParser()), indexesCacheUpdater, serverVersionSupport);
+            new InternalIndexOperations(new IndexInfoParser()), indexesCacheUpdater, serverVersionSupport,
+            clusterInfoService);
         refresher.refreshIndexes().block();
         return refresher;
     }
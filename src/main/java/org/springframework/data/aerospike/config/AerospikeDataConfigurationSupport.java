@@ -34,10 +34,13 @@ import org.springframework.data.aerospike.index.AerospikeIndexResolver;
 import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
 import org.springframework.data.aerospike.mapping.AerospikeSimpleTypes;
 import org.springframework.data.aerospike.mapping.Document;
+import org.springframework.data.aerospike.metrics.AerospikeMetrics;
 import org.springframework.data.aerospike.query.FilterExpressionsBuilder;
+import org.springframework.data.aerospike.query.SlowOperationLog;
 import org.springframework.data.aerospike.query.StatementBuilder;
 import org.springframework.data.aerospike.query.cache.IndexesCache;
 import org.springframework.data.aerospike.query.cache.IndexesCacheHolder;
+import org.springframework.data.aerospike.server.info.ClusterInfoService;
 import org.springframework.data.aerospike.server.version.ServerVersionSupport;
 import org.springframework.data.annotation.Persistent;
 import org.springframework.data.mapping.model.FieldNamingStrategy;
@@ -121,9 +124,18 @@ public abstract class AerospikeDataConfigurationSupport {
         return new AerospikeIndexResolver();
     }
 
+    @Bean(name = "aerospikeClusterInfoService", destroyMethod = "close")
+    public ClusterInfoService clusterInfoService(IAerospikeClient aerospikeClient) {
+        ClusterInfoService clusterInfoService = new ClusterInfoService(aerospikeClient);
+        long objectsCountCacheMillis = aerospikeDataSettings().getObjectsCountCacheMillis();
+        log.debug("AerospikeDataSettings.objectsCountCacheMillis: {}", objectsCountCacheMillis);
+        clusterInfoService.setTtl(ClusterInfoService.SETS_COMMAND_PREFIX, objectsCountCacheMillis);
+        return clusterInfoService;
+    }
+
     @Bean(name = "aerospikeServerVersionSupport")
-    public ServerVersionSupport serverVersionSupport(IAerospikeClient aerospikeClient) {
-        ServerVersionSupport serverVersionSupport = new ServerVersionSupport(aerospikeClient);
+    public ServerVersionSupport serverVersionSupport(ClusterInfoService clusterInfoService) {
+        ServerVersionSupport serverVersionSupport = new ServerVersionSupport(clusterInfoService);
         int serverVersionRefreshFrequency = aerospikeDataSettings().getServerVersionRefreshSeconds();
         processServerVersionRefreshFrequency(serverVersionRefreshFrequency, serverVersionSupport);
         return serverVersionSupport;
@@ -184,6 +196,36 @@ public abstract class AerospikeDataConfigurationSupport {
         builder.createIndexesOnStartup(true);
     }
 
+    /**
+     * Return {@link AerospikeMetrics} receiving measurements of template operations.
+     *
+     * <p>Override this method to enable metrics, e.g. by returning
+     * {@link org.springframework.data.aerospike.metrics.MicrometerAerospikeMetrics}.</p>
+     *
+     * @return {@link AerospikeMetrics#NOOP} by default
+     */
+    protected AerospikeMetrics aerospikeMetrics() {
+        return AerospikeMetrics.NOOP;
+    }
+
+    /**
+     * Return {@link SlowOperationLog} used by the query engines, configured by the slow operation settings of
+     * {@link AerospikeDataSettings}.
+     *
+     * @return new SlowOperationLog instance
+     */
+    protected SlowOperationLog slowOperationLog() {
+        AerospikeDataSettings settings = aerospikeDataSettings();
+        log.debug("AerospikeDataSettings.slowOperationThresholdMillis: {}", settings.getSlowOperationThresholdMillis());
+        log.debug("AerospikeDataSettings.slowOperationRecordsThreshold: {}",
+            settings.getSlowOperationRecordsThreshold());
+        log.debug("AerospikeDataSettings.slowOperationBytesThreshold: {}", settings.getSlowOperationBytesThreshold());
+        log.debug("AerospikeDataSettings.slowOperationLogsPerSecond: {}", settings.getSlowOperationLogsPerSecond());
+        return new SlowOperationLog(settings.getSlowOperationThresholdMillis(),
+            settings.getSlowOperationRecordsThreshold(), settings.getSlowOperationBytesThreshold(),
+            settings.getSlowOperationLogsPerSecond());
+    }
+
     /**
      * Return {@link ClientPolicy} object that contains all client policies.
      *
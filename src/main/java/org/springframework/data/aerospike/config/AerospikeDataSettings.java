@@ -43,6 +43,68 @@ public class AerospikeDataSettings {
     @Builder.Default
     // Maximum batch size for batch write operations
     int batchWriteSize = 100;
+    @Builder.Default
+    // Maximum amount of batch write operations of a single request in flight, values greater than 1 enable pipelining
+    int batchWriteConcurrency = 1;
+    @Builder.Default
+    // Maximum batch size for batch read operations
+    int batchReadSize = 100;
+    @Builder.Default
+    // Maximum amount of batch read operations of a single request sent concurrently
+    int batchReadConcurrency = 1;
+    @Builder.Default
+    // Maximum amount of platform threads issuing concurrent client calls of AerospikeTemplate (batches, per-node info
+    // requests, index installs). Only used when virtual threads are not available (Java < 21)
+    int executorMaxThreads = 64;
+    @Builder.Default
+    // Combine concurrent findById calls arriving within <N> microseconds into a single batch read.
+    // Non-positive value means that every findById call is a separate read
+    int findByIdBatchWindowMicros = 0;
+    @Builder.Default
+    // Maximum number of distinct keys in a batch read combining findById calls
+    int findByIdBatchSize = 100;
+    @Builder.Default
+    // Write buffered saves of documents annotated with @WriteBehind every <N> milliseconds
+    long writeBehindFlushIntervalMillis = 100;
+    @Builder.Default
+    // Maximum number of buffered saves, a save that does not fit has to write the buffer first
+    int writeBehindMaxPending = 10_000;
+    @Builder.Default
+    // Sort at most <N> query results in memory, spilling sorted runs to temporary files beyond that.
+    // Non-positive value means that query results are always sorted in memory
+    int querySortSpillThreshold = 0;
+    @Builder.Default
+    // Split queries into <N> partition ranges executed concurrently, values lower than 2 mean a single query
+    int queryParallelism = 1;
+    @Builder.Default
+    // Merge results of a parallel query in partition order (true) or as soon as they arrive (false)
+    boolean queryParallelOrdered = false;
+    @Builder.Default
+    // Request <N> records ahead from each partition range of a parallel reactive query
+    int queryPrefetch = 256;
+    @Builder.Default
+    // Convert records of query and batch read results to entities in <N> concurrent tasks on the common ForkJoinPool,
+    // values lower than 2 mean conversion in the thread consuming the results
+    int conversionParallelism = 1;
+    @Builder.Default
+    // Return concurrently converted entities in the order of records (true) or as soon as they are converted (false)
+    boolean conversionOrdered = true;
+    @Builder.Default
+    // Log queries and batch operations taking at least <N> milliseconds until their results are consumed.
+    // Non-positive value disables the latency threshold
+    long slowOperationThresholdMillis = 0;
+    @Builder.Default
+    // Log queries and batch operations returning more than <N> records, non-positive value disables the threshold
+    long slowOperationRecordsThreshold = 0;
+    @Builder.Default
+    // Log queries and batch operations returning more than <N> bytes of bins, non-positive value disables the threshold
+    long slowOperationBytesThreshold = 0;
+    @Builder.Default
+    // Log at most <N> slow operations per second, further ones are only counted
+    int slowOperationLogsPerSecond = 10;
+    @Builder.Default
+    // Cache objects count of sets used by count(setName) for <N> milliseconds, non-positive value disables caching
+    long objectsCountCacheMillis = 0;
     // Define how @Id fields (primary keys) and Map keys are stored: false - always as String,
     // true - preserve original type if supported
     @Builder.Default
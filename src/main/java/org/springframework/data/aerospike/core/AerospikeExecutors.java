@@ -0,0 +1,148 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Executors running blocking client calls of {@link AerospikeTemplate} concurrently.
+ * <p>
+ * Virtual threads are used when the runtime supports them (Java 21+), otherwise a bounded pool of daemon platform
+ * threads is created. The library is compiled for Java 17, so virtual threads are looked up reflectively.
+ */
+@Slf4j
+public final class AerospikeExecutors {
+
+    private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findVirtualThreadExecutorFactory();
+
+    private AerospikeExecutors() {
+    }
+
+    /**
+     * @return Whether the runtime provides virtual threads
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Create an executor starting a virtual thread per task if supported, otherwise a bounded thread pool.
+     *
+     * @param threadNamePrefix Name prefix of platform threads
+     * @param maxThreads       Maximum amount of platform threads, tasks above that are queued
+     * @return New ExecutorService that must be shut down by its owner
+     */
+    public static ExecutorService newExecutor(String threadNamePrefix, int maxThreads) {
+        ExecutorService executor = newVirtualThreadExecutor();
+        return executor != null ? executor : newThreadPool(threadNamePrefix, maxThreads);
+    }
+
+    /**
+     * Create an executor starting a virtual thread per task if supported, otherwise a thread pool without a limit, for
+     * tasks that may block for a long time waiting for each other.
+     *
+     * @param threadNamePrefix Name prefix of platform threads
+     * @return New ExecutorService that must be shut down by its owner
+     */
+    public static ExecutorService newUnboundedExecutor(String threadNamePrefix) {
+        ExecutorService executor = newVirtualThreadExecutor();
+        if (executor != null) {
+            return executor;
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+        threadFactory.setDaemon(true);
+        return Executors.newCachedThreadPool(threadFactory);
+    }
+
+    private static ExecutorService newVirtualThreadExecutor() {
+        if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                // e.g. virtual threads are a preview feature of the runtime that is not enabled
+                log.debug("Virtual threads are not available, using a thread pool instead", e);
+            }
+        }
+        return null;
+    }
+
+    static ExecutorService newThreadPool(String threadNamePrefix, int maxThreads) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+        threadFactory.setDaemon(true);
+        int threads = Math.max(maxThreads, 1);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Run independent calls concurrently and wait for all of them. A single call is run on the caller thread.
+     *
+     * @param executor Executor to run the calls with
+     * @param calls    Calls to run
+     * @return Results in the order of the calls
+     * @throws RuntimeException the exception thrown by the first failed call
+     */
+    public static <T> List<T> invokeAll(Executor executor, List<? extends Supplier<T>> calls) {
+        if (calls.size() == 1) {
+            return List.of(calls.get(0).get());
+        }
+        List<CompletableFuture<T>> futures = new ArrayList<>(calls.size());
+        for (Supplier<T> call : calls) {
+            futures.add(CompletableFuture.supplyAsync(call, executor));
+        }
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    private static Method findVirtualThreadExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
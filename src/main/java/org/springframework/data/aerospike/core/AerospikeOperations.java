@@ -23,13 +23,16 @@ import com.aerospike.client.policy.WritePolicy;
 import com.aerospike.client.query.Filter;
 import com.aerospike.client.query.IndexCollectionType;
 import com.aerospike.client.query.IndexType;
+import com.aerospike.client.query.KeyRecord;
 import com.aerospike.client.query.ResultSet;
+import com.aerospike.client.task.ExecuteTask;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.aerospike.config.AerospikeDataSettings;
 import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
 import org.springframework.data.aerospike.core.model.GroupedEntities;
 import org.springframework.data.aerospike.core.model.GroupedKeys;
+import org.springframework.data.aerospike.query.model.QueryPlan;
 import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.context.MappingContext;
@@ -88,6 +91,18 @@ public interface AerospikeOperations {
      */
     long getQueryMaxRecords();
 
+    /**
+     * Write buffered saves of documents annotated with
+     * {@link org.springframework.data.aerospike.annotation.WriteBehind} without waiting for the next periodic flush.
+     */
+    void flushWriteBehind();
+
+    /**
+     * @return Metrics of buffered saves of documents annotated with
+     * {@link org.springframework.data.aerospike.annotation.WriteBehind}.
+     */
+    WriteBehindMetrics getWriteBehindMetrics();
+
     /**
      * Save a document.
      * <p>
@@ -545,6 +560,44 @@ public interface AerospikeOperations {
      */
     void deleteAll(String setName, Instant beforeLastUpdate);
 
+    /**
+     * Delete records matching a query in a background task on the server, without reading them on the client.
+     *
+     * @param query       The {@link Query} to filter records. Must not be {@literal null}. Id qualifiers are not
+     *                    supported, use {@link #deleteByIds(Iterable, Class)} instead. Limit, offset and sort are not
+     *                    supported, the background task applies to all matching records.
+     * @param entityClass The class to extract set name from. Must not be {@literal null}.
+     * @return ExecuteTask to track completion of the background task.
+     * @throws DataAccessException If operation failed (see {@link DefaultAerospikeExceptionTranslator} for details).
+     */
+    <T> ExecuteTask deleteByQuery(Query query, Class<T> entityClass);
+
+    /**
+     * Delete records matching a query in the given set in a background task on the server, without reading them on
+     * the client.
+     *
+     * @param query   The {@link Query} to filter records. Must not be {@literal null}. Id qualifiers are not
+     *                supported, use {@link #deleteByIds(Iterable, String)} instead. Limit, offset and sort are not
+     *                supported, the background task applies to all matching records.
+     * @param setName Set name to use. Must not be {@literal null}.
+     * @return ExecuteTask to track completion of the background task.
+     * @throws DataAccessException If operation failed (see {@link DefaultAerospikeExceptionTranslator} for details).
+     */
+    ExecuteTask deleteByQuery(Query query, String setName);
+
+    /**
+     * Set bins of records matching a query in a background task on the server, without reading them on the client.
+     *
+     * @param query       The {@link Query} to filter records. Must not be {@literal null}. Id qualifiers, limit, offset
+     *                    and sort are not supported, the background task applies to all matching records.
+     * @param entityClass The class to extract set name and bin names from. Must not be {@literal null}.
+     * @param values      New values by property names of the entity class, each value must be of a type supported by
+     *                    the Aerospike client. A {@literal null} value removes the bin. Must not be {@literal null}.
+     * @return ExecuteTask to track completion of the background task.
+     * @throws DataAccessException If operation failed (see {@link DefaultAerospikeExceptionTranslator} for details).
+     */
+    <T> ExecuteTask updateByQuery(Query query, Class<T> entityClass, Map<String, Object> values);
+
     /**
      * Find an existing record matching the document's class and id, add map values to the corresponding bins of the
      * record and return the modified record mapped to the document's class.
@@ -782,6 +835,32 @@ public interface AerospikeOperations {
      */
     <T, S> List<S> findByIds(Iterable<?> ids, Class<T> entityClass, Class<S> targetClass, String setName);
 
+    /**
+     * Find records by ids using batch read operations, set name will be determined by the given entityClass.
+     * <p>
+     * Ids are read in chunks of {@link AerospikeDataSettings#getBatchReadSize()}, the records will be mapped to the
+     * given entityClass and returned in the order of ids as soon as each chunk is read.
+     *
+     * @param ids         The ids of the documents to find. Must not be {@literal null}.
+     * @param entityClass The class to extract set name from and to map the records to. Must not be {@literal null}.
+     * @return A Stream of matching records mapped to entityClass's type.
+     */
+    <T> Stream<T> findByIdsAsStream(Iterable<?> ids, Class<T> entityClass);
+
+    /**
+     * Find records by ids within the given set using batch read operations.
+     * <p>
+     * Ids are read in chunks of {@link AerospikeDataSettings#getBatchReadSize()}, the records will be mapped to the
+     * given targetClass and returned in the order of ids as soon as each chunk is read.
+     *
+     * @param ids         The ids of the documents to find. Must not be {@literal null}.
+     * @param entityClass The class to get entity properties from (such as expiration). Must not be {@literal null}.
+     * @param targetClass The class to map the record to, {@literal null} means entityClass.
+     * @param setName     Set name to use.
+     * @return A Stream of matching records mapped to targetClass's type.
+     */
+    <T, S> Stream<S> findByIdsAsStream(Iterable<?> ids, Class<T> entityClass, Class<S> targetClass, String setName);
+
     /**
      * Execute a single batch request to find several records, possibly from different sets.
      * <p>
@@ -884,6 +963,19 @@ public interface AerospikeOperations {
      */
     <T> Stream<T> find(Query query, Class<T> targetClass, String setName);
 
+    /**
+     * Find records in the given set using a query and return them without mapping to entities.
+     * <p>
+     * Intended for bulk reads that only need some bins of each record. The query's id qualifier is read as a batch,
+     * distinct, offset and rows of the query are applied, sorting is not supported.
+     *
+     * @param query    The {@link Query} to filter results, {@literal null} to read all records of the set.
+     * @param setName  Set name to use. Must not be {@literal null}.
+     * @param binNames Names of the bins to read, all bins are read if none are given.
+     * @return A Stream of matching records. Must be closed after use.
+     */
+    Stream<KeyRecord> streamRecords(@Nullable Query query, String setName, String... binNames);
+
     /**
      * Find all records in the given entityClass's set and map them to the given class type.
      *
@@ -1015,6 +1107,9 @@ public interface AerospikeOperations {
 
     /**
      * Check using a query if any matching records exist within the set associated with the given entityClass.
+     * <p>
+     * Only record headers are read. Without an offset the server stops after the first matching record, records
+     * skipped by an offset are read up to the configured queryMaxRecords. The sort of the query is ignored.
      *
      * @param query       The query to check if any matching records exist. Must not be {@literal null}.
      * @param entityClass The class to extract set name from. Must not be {@literal null}.
@@ -1024,6 +1119,9 @@ public interface AerospikeOperations {
 
     /**
      * Check using a query if any matching records exist within the given set.
+     * <p>
+     * Only record headers are read. Without an offset the server stops after the first matching record, records
+     * skipped by an offset are read up to the configured queryMaxRecords. The sort of the query is ignored.
      *
      * @param query       The query to check if any matching records exist. Must not be {@literal null}.
      * @param entityClass The class to translate to returned records into. Must not be {@literal null}.
@@ -1066,6 +1164,27 @@ public interface AerospikeOperations {
      */
     long count(Query query, String setName);
 
+    /**
+     * Describe how the given query would be executed within the set associated with the given entityClass, without
+     * executing it.
+     *
+     * @param query       The query to describe. Must not be {@literal null}.
+     * @param entityClass The class to extract set name from. Must not be {@literal null}.
+     * @return plan of the query: secondary index filter, candidate indexes, filter expression, partitions and maximum
+     * amount of records.
+     */
+    <T> QueryPlan explain(Query query, Class<T> entityClass);
+
+    /**
+     * Describe how the given query would be executed within the given set, without executing it.
+     *
+     * @param query   The query to describe. Must not be {@literal null}.
+     * @param setName Set name to use. Must not be {@literal null}.
+     * @return plan of the query: secondary index filter, candidate indexes, filter expression, partitions and maximum
+     * amount of records.
+     */
+    QueryPlan explain(Query query, String setName);
+
     /**
      * Execute query, apply statement's aggregation function, and return result iterator.
      *
@@ -18,7 +18,9 @@ package org.springframework.data.aerospike.core;
 import com.aerospike.client.Record;
 import com.aerospike.client.*;
 import com.aerospike.client.cdt.CTX;
-import com.aerospike.client.cluster.Node;
+import com.aerospike.client.exp.Exp;
+import com.aerospike.client.listener.BatchOperateListListener;
+import com.aerospike.client.listener.RecordArrayListener;
 import com.aerospike.client.policy.BatchPolicy;
 import com.aerospike.client.policy.Policy;
 import com.aerospike.client.policy.RecordExistsAction;
@@ -29,8 +31,12 @@ import com.aerospike.client.query.IndexType;
 import com.aerospike.client.query.KeyRecord;
 import com.aerospike.client.query.ResultSet;
 import com.aerospike.client.query.Statement;
+import com.aerospike.client.task.ExecuteTask;
 import com.aerospike.client.task.IndexTask;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.aerospike.annotation.WriteBehind;
+import org.springframework.data.aerospike.config.AerospikeDataSettings;
 import org.springframework.data.aerospike.convert.AerospikeWriteData;
 import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
 import org.springframework.data.aerospike.core.model.GroupedEntities;
@@ -42,8 +48,11 @@ import org.springframework.data.aerospike.mapping.AerospikePersistentProperty;
 import org.springframework.data.aerospike.query.KeyRecordIterator;
 import org.springframework.data.aerospike.query.Qualifier;
 import org.springframework.data.aerospike.query.QueryEngine;
+import org.springframework.data.aerospike.query.SlowOperationLog;
 import org.springframework.data.aerospike.query.cache.IndexRefresher;
+import org.springframework.data.aerospike.query.model.QueryPlan;
 import org.springframework.data.aerospike.repository.query.Query;
+import org.springframework.data.aerospike.server.info.ClusterInfoService;
 import org.springframework.data.aerospike.server.version.ServerVersionSupport;
 import org.springframework.data.aerospike.utility.Utils;
 import org.springframework.data.domain.Sort;
@@ -52,14 +61,21 @@ import org.springframework.data.util.StreamUtils;
 import org.springframework.util.Assert;
 
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
@@ -74,6 +90,7 @@ import static org.springframework.data.aerospike.core.BaseAerospikeTemplate.Oper
 import static org.springframework.data.aerospike.core.BaseAerospikeTemplate.OperationType.UPDATE_OPERATION;
 import static org.springframework.data.aerospike.core.CoreUtils.getDistinctPredicate;
 import static org.springframework.data.aerospike.core.CoreUtils.operations;
+import static org.springframework.data.aerospike.core.CoreUtils.sortWithOffsetAndLimit;
 import static org.springframework.data.aerospike.core.CoreUtils.verifyUnsortedWithOffset;
 import static org.springframework.data.aerospike.core.TemplateUtils.excludeIdQualifier;
 import static org.springframework.data.aerospike.core.TemplateUtils.getIdValue;
@@ -91,13 +108,20 @@ import static org.springframework.data.aerospike.query.QualifierUtils.queryCrite
  */
 @Slf4j
 public class AerospikeTemplate extends BaseAerospikeTemplate implements AerospikeOperations,
-    IndexesCacheRefresher {
+    IndexesCacheRefresher, DisposableBean {
 
     private static final Pattern INDEX_EXISTS_REGEX_PATTERN = Pattern.compile("^FAIL:(-?\\d+).*$");
+    private static final int CONVERSION_CHUNK_SIZE = 64;
 
     private final IAerospikeClient client;
     private final QueryEngine queryEngine;
     private final IndexRefresher indexRefresher;
+    private final ExecutorService defaultExecutor;
+    private volatile Executor executor;
+    private volatile ClusterInfoService clusterInfoService;
+    private final NearCaches nearCaches = new NearCaches();
+    private final RecordBatcher findByIdBatcher;
+    private final WriteBehindBuffer writeBehindBuffer;
 
     public AerospikeTemplate(IAerospikeClient client,
                              String namespace,
@@ -112,6 +136,15 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         this.client = client;
         this.queryEngine = queryEngine;
         this.indexRefresher = indexRefresher;
+        AerospikeDataSettings settings = converter.getAerospikeDataSettings();
+        this.defaultExecutor = AerospikeExecutors.newExecutor("aerospike-template-",
+            settings.getExecutorMaxThreads());
+        this.executor = defaultExecutor;
+        this.clusterInfoService = new ClusterInfoService(client, task -> this.executor.execute(task));
+        this.clusterInfoService.setTtl(ClusterInfoService.SETS_COMMAND_PREFIX, settings.getObjectsCountCacheMillis());
+        this.findByIdBatcher = createRecordBatcher(this::readBatch);
+        this.writeBehindBuffer = new WriteBehindBuffer(client, settings.getWriteBehindFlushIntervalMillis(),
+            settings.getWriteBehindMaxPending(), settings.getBatchWriteSize(), nearCaches::invalidate);
     }
 
     @Override
@@ -129,6 +162,54 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         indexRefresher.refreshIndexes();
     }
 
+    @Override
+    public void flushWriteBehind() {
+        writeBehindBuffer.flush();
+    }
+
+    @Override
+    public WriteBehindMetrics getWriteBehindMetrics() {
+        return writeBehindBuffer.getMetrics();
+    }
+
+    /**
+     * @return Executor issuing concurrent client calls of this template
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Set the executor issuing concurrent client calls of this template, e.g. batch chunks and per-node info requests.
+     * The default executor uses virtual threads if available, otherwise a bounded thread pool. An executor set here is
+     * not shut down by the template.
+     */
+    public void setExecutor(Executor executor) {
+        Assert.notNull(executor, "Executor must not be null!");
+        this.executor = executor;
+    }
+
+    /**
+     * Set the service sending info requests of this template, e.g. to share cached responses with other components.
+     * The default service sends requests to several nodes with the executor of this template.
+     */
+    public void setClusterInfoService(ClusterInfoService clusterInfoService) {
+        Assert.notNull(clusterInfoService, "ClusterInfoService must not be null!");
+        this.clusterInfoService = clusterInfoService;
+    }
+
+    /**
+     * Write buffered saves and send batched reads before the template is disposed.
+     */
+    @Override
+    public void destroy() {
+        writeBehindBuffer.close();
+        if (findByIdBatcher != null) {
+            findByIdBatcher.close();
+        }
+        defaultExecutor.shutdown();
+    }
+
     @Override
     public <T> void save(T document) {
         Assert.notNull(document, "Document must not be null!");
@@ -140,8 +221,21 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         Assert.notNull(document, "Document must not be null!");
         Assert.notNull(setName, "Set name must not be null!");
 
-        AerospikeWriteData data = writeData(document, setName);
+        timed("save", setName, () -> doSave(document, setName));
+    }
+
+    private <T> void doSave(T document, String setName) {
         AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(document.getClass());
+        if (entity.isAnnotationPresent(WriteBehind.class)) {
+            Assert.state(!entity.hasVersionProperty(), "Write behind is not supported for documents with version " +
+                "property");
+            BatchRecord batchRecord = getBatchWriteForSave(document, setName).batchRecord();
+            writeBehindBuffer.add(batchRecord);
+            nearCaches.invalidate(batchRecord.key);
+            return;
+        }
+
+        AerospikeWriteData data = writeData(document, setName);
         if (entity.hasVersionProperty()) {
             WritePolicy policy = expectGenerationCasAwarePolicy(data);
 
@@ -173,7 +267,17 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
     }
 
     private <T> void applyBufferedBatchWrite(Iterable<T> documents, String setName, OperationType operationType) {
-        int batchSize = converter.getAerospikeDataSettings().getBatchWriteSize();
+        timed(operationType + "All", setName, () -> doApplyBufferedBatchWrite(documents, setName, operationType));
+    }
+
+    private <T> void doApplyBufferedBatchWrite(Iterable<T> documents, String setName, OperationType operationType) {
+        AerospikeDataSettings settings = converter.getAerospikeDataSettings();
+        int batchSize = settings.getBatchWriteSize();
+        if (settings.getBatchWriteConcurrency() > 1) {
+            applyPipelinedBatchWrite(documents, setName, operationType, batchSize,
+                settings.getBatchWriteConcurrency());
+            return;
+        }
         List<T> docsList = new ArrayList<>();
 
         for (T doc : documents) {
@@ -189,7 +293,28 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
     }
 
     private <T> void batchWriteAllDocuments(List<T> documents, String setName, OperationType operationType) {
-        List<BatchWriteData<T>> batchWriteDataList = new ArrayList<>();
+        List<BatchWriteData<T>> batchWriteDataList = getBatchWriteDataList(documents, setName, operationType);
+
+        List<BatchRecord> batchWriteRecords = batchWriteDataList.stream().map(BatchWriteData::batchRecord).toList();
+        writeBehindBuffer.write(getKeys(batchWriteRecords));
+        SlowOperationLog.Measurement measurement = startBatchMeasurement("batchWrite", setName,
+            batchWriteRecords.size(), null);
+        try {
+            // requires server ver. >= 6.0.0
+            client.operate(null, batchWriteRecords);
+        } catch (AerospikeException e) {
+            throw translateError(e); // no exception is thrown for versions mismatch, only record's result code shows it
+        } finally {
+            invalidateNearCaches(batchWriteRecords);
+            finishBatchMeasurement(measurement, null);
+        }
+
+        checkForErrorsAndUpdateVersion(batchWriteDataList, batchWriteRecords, operationType);
+    }
+
+    private <T> List<BatchWriteData<T>> getBatchWriteDataList(List<T> documents, String setName,
+                                                              OperationType operationType) {
+        List<BatchWriteData<T>> batchWriteDataList = new ArrayList<>(documents.size());
         switch (operationType) {
             case SAVE_OPERATION ->
                 documents.forEach(document -> batchWriteDataList.add(getBatchWriteForSave(document, setName)));
@@ -201,16 +326,139 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
                 documents.forEach(document -> batchWriteDataList.add(getBatchWriteForDelete(document, setName)));
             default -> throw new IllegalArgumentException("Unexpected operation name: " + operationType);
         }
+        recordBatchSize(operationType + "All", setName, batchWriteDataList.size());
+        return batchWriteDataList;
+    }
+
+    /**
+     * Send batches without waiting for the previous ones to complete, up to the given amount of batches in flight. The
+     * next batch is converted while the previous ones are being written. Once a batch fails no more batches are sent,
+     * the ones already in flight are awaited and have their versions updated.
+     */
+    private <T> void applyPipelinedBatchWrite(Iterable<T> documents, String setName, OperationType operationType,
+                                              int batchSize, int concurrency) {
+        Deque<PendingBatchWrite<T>> inFlight = new ArrayDeque<>(concurrency);
+        List<T> docsList = new ArrayList<>();
+        try {
+            for (T doc : documents) {
+                docsList.add(doc);
+                if (batchWriteSizeMatch(batchSize, docsList.size())) {
+                    List<BatchWriteData<T>> batchWriteDataList =
+                        getBatchWriteDataList(docsList, setName, operationType);
+                    if (inFlight.size() >= concurrency) {
+                        completeBatchWrite(inFlight.poll(), operationType);
+                    }
+                    inFlight.add(sendBatchWrite(batchWriteDataList));
+                    docsList = new ArrayList<>();
+                }
+            }
+            if (!docsList.isEmpty()) {
+                inFlight.add(sendBatchWrite(getBatchWriteDataList(docsList, setName, operationType)));
+            }
+            while (!inFlight.isEmpty()) {
+                completeBatchWrite(inFlight.poll(), operationType);
+            }
+        } catch (RuntimeException e) {
+            while (!inFlight.isEmpty()) {
+                try {
+                    completeBatchWrite(inFlight.poll(), operationType);
+                } catch (RuntimeException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            throw e;
+        }
+    }
 
+    private <T> PendingBatchWrite<T> sendBatchWrite(List<BatchWriteData<T>> batchWriteDataList) {
         List<BatchRecord> batchWriteRecords = batchWriteDataList.stream().map(BatchWriteData::batchRecord).toList();
+        writeBehindBuffer.write(getKeys(batchWriteRecords));
+        SlowOperationLog.Measurement measurement = startBatchMeasurement("batchWrite",
+            batchWriteRecords.get(0).key.setName, batchWriteRecords.size(), null);
+        CompletableFuture<Void> result;
+        // requires server ver. >= 6.0.0
+        if (client.getCluster().eventLoops != null) {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            try {
+                client.operate(null, new BatchOperateListListener() {
+                    @Override
+                    public void onSuccess(List<BatchRecord> records, boolean status) {
+                        future.complete(null);
+                    }
+
+                    @Override
+                    public void onFailure(AerospikeException ae) {
+                        future.completeExceptionally(ae);
+                    }
+                }, null, batchWriteRecords);
+            } catch (AerospikeException e) {
+                future.completeExceptionally(e);
+            }
+            result = future;
+        } else {
+            // no event loops configured, blocking batch writes are sent from the executor instead
+            result = CompletableFuture.runAsync(() -> client.operate(null, batchWriteRecords), executor);
+        }
+        if (measurement != null) {
+            result.whenComplete((ignored, e) -> measurement.finish());
+        }
+        return new PendingBatchWrite<>(batchWriteDataList, batchWriteRecords, result);
+    }
+
+    /**
+     * Read the records of a batch combining findById calls without blocking the batcher's scheduler thread, so that
+     * further batches are sent when their window has passed while earlier ones are in flight.
+     */
+    private CompletableFuture<Record[]> readBatch(Key[] keys) {
+        if (client.getCluster().eventLoops != null) {
+            CompletableFuture<Record[]> future = new CompletableFuture<>();
+            try {
+                client.get(null, new RecordArrayListener() {
+                    @Override
+                    public void onSuccess(Key[] batchKeys, Record[] records) {
+                        future.complete(records);
+                    }
+
+                    @Override
+                    public void onFailure(AerospikeException ae) {
+                        future.completeExceptionally(ae);
+                    }
+                }, null, keys);
+            } catch (AerospikeException e) {
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+        // no event loops configured, blocking batch reads are sent from the executor instead
+        return CompletableFuture.supplyAsync(() -> client.get(null, keys), executor);
+    }
+
+    private <T> void completeBatchWrite(PendingBatchWrite<T> pendingBatchWrite, OperationType operationType) {
         try {
-            // requires server ver. >= 6.0.0
-            client.operate(null, batchWriteRecords);
-        } catch (AerospikeException e) {
-            throw translateError(e); // no exception is thrown for versions mismatch, only record's result code shows it
+            pendingBatchWrite.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof AerospikeException aerospikeException) {
+                throw translateError(aerospikeException);
+            }
+            throw e;
+        } finally {
+            invalidateNearCaches(pendingBatchWrite.batchWriteRecords());
         }
+        checkForErrorsAndUpdateVersion(pendingBatchWrite.batchWriteDataList(), pendingBatchWrite.batchWriteRecords(),
+            operationType);
+    }
+
+    private void invalidateNearCaches(List<BatchRecord> batchRecords) {
+        nearCaches.invalidate(getKeys(batchRecords));
+    }
+
+    private static List<Key> getKeys(List<BatchRecord> batchRecords) {
+        return batchRecords.stream().map(batchRecord -> batchRecord.key).toList();
+    }
+
+    private record PendingBatchWrite<T>(List<BatchWriteData<T>> batchWriteDataList,
+                                        List<BatchRecord> batchWriteRecords, CompletableFuture<Void> result) {
 
-        checkForErrorsAndUpdateVersion(batchWriteDataList, batchWriteRecords, operationType);
     }
 
     protected <T> void checkForErrorsAndUpdateVersion(List<BatchWriteData<T>> batchWriteDataList,
@@ -256,6 +504,10 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         Assert.notNull(document, "Document must not be null!");
         Assert.notNull(setName, "Set name must not be null!");
 
+        timed("insert", setName, () -> doInsert(document, setName));
+    }
+
+    private <T> void doInsert(T document, String setName) {
         AerospikeWriteData data = writeData(document, setName);
         WritePolicy policy = ignoreGenerationPolicy(data, RecordExistsAction.CREATE_ONLY);
         AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(document.getClass());
@@ -301,6 +553,10 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         Assert.notNull(policy, "Policy must not be null!");
         Assert.notNull(setName, "Set name must not be null!");
 
+        timed("persist", setName, () -> doPersist(document, policy, setName));
+    }
+
+    private <T> void doPersist(T document, WritePolicy policy, String setName) {
         AerospikeWriteData data = writeData(document, setName);
 
         Operation[] operations = operations(data.getBinsAsArray(), Operation::put);
@@ -318,6 +574,10 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         Assert.notNull(document, "Document must not be null!");
         Assert.notNull(setName, "Set name must not be null!");
 
+        timed("update", setName, () -> doUpdate(document, setName));
+    }
+
+    private <T> void doUpdate(T document, String setName) {
         AerospikeWriteData data = writeData(document, setName);
         AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(document.getClass());
         if (entity.hasVersionProperty()) {
@@ -346,6 +606,10 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         Assert.notNull(document, "Document must not be null!");
         Assert.notNull(setName, "Set name must not be null!");
 
+        timed("update", setName, () -> doUpdate(document, setName, fields));
+    }
+
+    private <T> void doUpdate(T document, String setName, Collection<String> fields) {
         AerospikeWriteData data = writeDataWithSpecificFields(document, setName, fields);
         AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(document.getClass());
         if (entity.hasVersionProperty()) {
@@ -391,7 +655,7 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         try {
             Key key = getKey(id, getSetName(entityClass));
 
-            return client.delete(ignoreGenerationPolicy(), key);
+            return deleteAndInvalidateNearCaches(ignoreGenerationPolicy(), key);
         } catch (AerospikeException e) {
             throw translateError(e);
         }
@@ -408,6 +672,10 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         Assert.notNull(document, "Document must not be null!");
         Assert.notNull(setName, "Set name must not be null!");
 
+        return timed("delete", setName, () -> doDelete(document, setName));
+    }
+
+    private <T> boolean doDelete(T document, String setName) {
         AerospikeWriteData data = writeData(document, setName);
         AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(document.getClass());
         if (entity.hasVersionProperty()) {
@@ -418,7 +686,8 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 
     private boolean doDeleteWithVersionAndHandleCasError(AerospikeWriteData data) {
         try {
-            return client.delete(expectGenerationPolicy(data, RecordExistsAction.UPDATE_ONLY), data.getKey());
+            return deleteAndInvalidateNearCaches(expectGenerationPolicy(data, RecordExistsAction.UPDATE_ONLY),
+                data.getKey());
         } catch (AerospikeException e) {
             throw translateCasError(e, "Failed to delete record due to versions mismatch");
         }
@@ -426,12 +695,22 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 
     private boolean doDeleteIgnoreVersionAndTranslateError(AerospikeWriteData data) {
         try {
-            return client.delete(ignoreGenerationPolicy(data, RecordExistsAction.UPDATE_ONLY), data.getKey());
+            return deleteAndInvalidateNearCaches(ignoreGenerationPolicy(data, RecordExistsAction.UPDATE_ONLY),
+                data.getKey());
         } catch (AerospikeException e) {
             throw translateError(e);
         }
     }
 
+    private boolean deleteAndInvalidateNearCaches(WritePolicy policy, Key key) {
+        writeBehindBuffer.discard(List.of(key));
+        try {
+            return client.delete(policy, key);
+        } finally {
+            nearCaches.invalidate(key);
+        }
+    }
+
     @Override
     public <T> boolean deleteById(Object id, Class<T> entityClass) {
         Assert.notNull(entityClass, "Class must not be null!");
@@ -443,10 +722,14 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         Assert.notNull(id, "Id must not be null!");
         Assert.notNull(setName, "Set name must not be null!");
 
+        return timed("deleteById", setName, () -> doDeleteById(id, setName));
+    }
+
+    private boolean doDeleteById(Object id, String setName) {
         try {
             Key key = getKey(id, setName);
 
-            return client.delete(ignoreGenerationPolicy(), key);
+            return deleteAndInvalidateNearCaches(ignoreGenerationPolicy(), key);
         } catch (AerospikeException e) {
             throw translateError(e);
         }
@@ -454,20 +737,9 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 
     @Override
     public <T> void deleteAll(Iterable<T> documents) {
-        String setName = getSetName(documents.iterator().next());
+        validateForBatchWrite(documents, "Documents for deleting");
 
-        int batchSize = converter.getAerospikeDataSettings().getBatchWriteSize();
-        List<Object> documentsList = new ArrayList<>();
-        for (Object document : documents) {
-            if (batchWriteSizeMatch(batchSize, documentsList.size())) {
-                deleteAll(documentsList, setName);
-                documentsList.clear();
-            }
-            documentsList.add(document);
-        }
-        if (!documentsList.isEmpty()) {
-            deleteAll(documentsList, setName);
-        }
+        deleteAll(documents, getSetName(documents.iterator().next()));
     }
 
     @Override
@@ -561,19 +833,94 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         Calendar beforeLastUpdateCalendar = convertToCalendar(beforeLastUpdate);
 
         try {
+            if (beforeLastUpdate == null) {
+                writeBehindBuffer.discardSet(setName);
+            } else {
+                // buffered records are kept unless their last update time is before the given one, as if not buffered
+                writeBehindBuffer.flush();
+            }
             client.truncate(null, getNamespace(), setName, beforeLastUpdateCalendar);
         } catch (AerospikeException e) {
             throw translateError(e);
+        } finally {
+            nearCaches.clear();
+        }
+    }
+
+    @Override
+    public <T> ExecuteTask deleteByQuery(Query query, Class<T> entityClass) {
+        Assert.notNull(entityClass, "Class must not be null!");
+        return deleteByQuery(query, getSetName(entityClass));
+    }
+
+    @Override
+    public ExecuteTask deleteByQuery(Query query, String setName) {
+        Assert.notNull(query, "Query must not be null!");
+        Assert.notNull(setName, "Set name must not be null!");
+
+        return executeByQuery(query, setName, Operation.delete());
+    }
+
+    @Override
+    public <T> ExecuteTask updateByQuery(Query query, Class<T> entityClass, Map<String, Object> values) {
+        Assert.notNull(query, "Query must not be null!");
+        Assert.notNull(entityClass, "Class must not be null!");
+        Assert.notEmpty(values, "Values must not be empty!");
+
+        AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+        List<String> fields = new ArrayList<>(values.keySet());
+        List<String> binNames = fieldsToBinNames(entityClass, fields);
+        Operation[] operations = IntStream.range(0, fields.size())
+            .mapToObj(index -> {
+                // values are written in the same form as by save
+                AerospikePersistentProperty property = entity.getPersistentProperty(fields.get(index));
+                Object value = converter.toWritableValue(values.get(fields.get(index)),
+                    property == null ? null : property.getTypeInformation());
+                return Operation.put(new Bin(binNames.get(index), Value.get(value)));
+            })
+            .toArray(Operation[]::new);
+        return executeByQuery(query, getSetName(entityClass), operations);
+    }
+
+    private ExecuteTask executeByQuery(Query query, String setName, Operation... operations) {
+        Assert.isTrue(!queryCriteriaIsNotNull(query) || getIdQualifier(query.getCriteriaObject()) == null,
+            "Queries with id are not supported by background operations");
+        Assert.isTrue(!query.hasRows() && !query.hasOffset()
+                && (query.getSort() == null || query.getSort().isUnsorted()),
+            "Queries with limit, offset or sort are not supported by background operations");
+
+        // records read while the background task is running may be changed by it afterwards
+        nearCaches.suspend(setName);
+        ExecuteTask task;
+        try {
+            // buffered saves must reach the server before the background task filters records
+            writeBehindBuffer.flush();
+            task = queryEngine.execute(namespace, setName, query, writePolicyDefault, operations);
+        } catch (AerospikeException e) {
+            nearCaches.resume(setName);
+            throw translateError(e);
+        } catch (RuntimeException e) {
+            nearCaches.resume(setName);
+            throw e;
         }
+        CompletableFuture.runAsync(task::waitTillComplete, executor)
+            .whenComplete((ignored, e) -> nearCaches.resume(setName));
+        return task;
     }
 
     private void deleteAndHandleErrors(IAerospikeClient client, Key[] keys) {
         BatchResults results;
+        SlowOperationLog.Measurement measurement = startBatchMeasurement("batchDelete",
+            keys.length > 0 ? keys[0].setName : null, keys.length, null);
         try {
             // requires server ver. >= 6.0.0
+            writeBehindBuffer.discard(Arrays.asList(keys));
             results = client.delete(null, null, keys);
         } catch (AerospikeException e) {
             throw translateError(e);
+        } finally {
+            nearCaches.invalidate(Arrays.asList(keys));
+            finishBatchMeasurement(measurement, null);
         }
 
         if (results.records == null) {
@@ -608,7 +955,7 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
                 .expiration(data.getExpiration())
                 .build();
 
-            Record aeroRecord = client.operate(writePolicy, data.getKey(), ops);
+            Record aeroRecord = operateAndInvalidateNearCaches(writePolicy, data.getKey(), ops);
 
             return mapToEntity(data.getKey(), getEntityClass(document), aeroRecord);
         } catch (AerospikeException e) {
@@ -634,7 +981,7 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
                 .expiration(data.getExpiration())
                 .build();
 
-            Record aeroRecord = client.operate(writePolicy, data.getKey(),
+            Record aeroRecord = operateAndInvalidateNearCaches(writePolicy, data.getKey(),
                 Operation.add(new Bin(binName, value)), Operation.get());
 
             return mapToEntity(data.getKey(), getEntityClass(document), aeroRecord);
@@ -657,7 +1004,7 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         try {
             AerospikeWriteData data = writeData(document, setName);
             Operation[] ops = operations(values, Operation.Type.APPEND, Operation.get());
-            Record aeroRecord = client.operate(null, data.getKey(), ops);
+            Record aeroRecord = operateAndInvalidateNearCaches(null, data.getKey(), ops);
 
             return mapToEntity(data.getKey(), getEntityClass(document), aeroRecord);
         } catch (AerospikeException e) {
@@ -678,7 +1025,7 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 
         try {
             AerospikeWriteData data = writeData(document, setName);
-            Record aeroRecord = client.operate(null, data.getKey(),
+            Record aeroRecord = operateAndInvalidateNearCaches(null, data.getKey(),
                 Operation.append(new Bin(binName, value)),
                 Operation.get(binName));
 
@@ -701,7 +1048,7 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 
         try {
             AerospikeWriteData data = writeData(document, setName);
-            Record aeroRecord = client.operate(null, data.getKey(),
+            Record aeroRecord = operateAndInvalidateNearCaches(null, data.getKey(),
                 Operation.prepend(new Bin(fieldName, value)),
                 Operation.get(fieldName));
 
@@ -725,7 +1072,7 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         try {
             AerospikeWriteData data = writeData(document, setName);
             Operation[] ops = operations(values, Operation.Type.PREPEND, Operation.get());
-            Record aeroRecord = client.operate(null, data.getKey(), ops);
+            Record aeroRecord = operateAndInvalidateNearCaches(null, data.getKey(), ops);
 
             return mapToEntity(data.getKey(), getEntityClass(document), aeroRecord);
         } catch (AerospikeException e) {
@@ -773,6 +1120,44 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         return (S) findByIdUsingQuery(id, entityClass, targetClass, setName, null);
     }
 
+    private <T> T findByIdUsingNearCache(NearCaches.Cache nearCache, Key key, Class<T> entityClass) {
+        NearCaches.Entry cached = nearCache.get(key);
+        if (cached != null) {
+            if (!nearCache.isValidate()) {
+                return mapToEntity(key, entityClass, cached.aeroRecord());
+            }
+            Record header = client.getHeader(null, key);
+            if (header == null) {
+                nearCache.invalidate(key);
+                return null;
+            }
+            if (header.generation == cached.aeroRecord().generation) {
+                return mapToEntity(key, entityClass, cached.aeroRecord());
+            }
+        }
+
+        Record aeroRecord = null;
+        long version = nearCache.startLoad(key);
+        try {
+            aeroRecord = client.get(null, key);
+        } finally {
+            // a background operation started before the load is not covered by the load version
+            nearCache.finishLoad(key, nearCaches.isSuspended(key.setName) ? null : aeroRecord, version);
+        }
+        return mapToEntity(key, entityClass, aeroRecord);
+    }
+
+    private Record getBatchedRecord(Key key) {
+        try {
+            return findByIdBatcher.get(key).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof AerospikeException aerospikeException) {
+                throw aerospikeException;
+            }
+            throw e;
+        }
+    }
+
     private Record getRecord(AerospikePersistentEntity<?> entity, Key key, Query query) {
         Record aeroRecord;
         if (entity.isTouchOnRead()) {
@@ -885,30 +1270,56 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         Assert.notNull(entityClass, "Entity class must not be null!");
         Assert.notNull(setName, "Set name must not be null!");
 
-        int batchSize = converter.getAerospikeDataSettings().getBatchWriteSize();
-        List<Object> idsList = new ArrayList<>();
-        List<S> result = new ArrayList<>();
+        return timed("findByIds", setName, () -> doFindByIds(ids, entityClass, targetClass, setName));
+    }
 
-        for (Object id : ids) {
-            if (batchWriteSizeMatch(batchSize, idsList.size())) {
-                result = Stream.concat(
-                    result.stream(),
-                    ((List<S>) findByIdsUsingQuery(idsList, entityClass, targetClass, setName, null)).stream()
-                ).toList();
-                idsList.clear();
-            }
-            idsList.add(id);
-        }
-        if (!idsList.isEmpty()) {
-            result = Stream.concat(
-                result.stream(),
-                ((List<S>) findByIdsUsingQuery(idsList, entityClass, targetClass, setName, null)).stream()
-            ).toList();
+    private <T, S> List<S> doFindByIds(Iterable<?> ids, Class<T> entityClass, Class<S> targetClass, String setName) {
+        List<?> idsList = toList(ids);
+        List<S> result = new ArrayList<>(idsList.size());
+        try (BatchReadPipeline<S> pipeline = getBatchReadPipeline(idsList, entityClass, targetClass, setName)) {
+            pipeline.forEachRemaining(result::addAll);
+        } catch (AerospikeException e) {
+            throw translateError(e);
         }
-
         return result;
     }
 
+    @Override
+    public <T> Stream<T> findByIdsAsStream(Iterable<?> ids, Class<T> entityClass) {
+        return findByIdsAsStream(ids, entityClass, null, getSetName(entityClass));
+    }
+
+    @Override
+    public <T, S> Stream<S> findByIdsAsStream(Iterable<?> ids, Class<T> entityClass, Class<S> targetClass,
+                                              String setName) {
+        Assert.notNull(ids, "List of ids must not be null!");
+        Assert.notNull(entityClass, "Entity class must not be null!");
+        Assert.notNull(setName, "Set name must not be null!");
+
+        BatchReadPipeline<S> pipeline = getBatchReadPipeline(toList(ids), entityClass, targetClass, setName);
+        return StreamUtils.createStreamFromIterator(pipeline)
+            .onClose(pipeline::close)
+            .flatMap(List::stream);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T, S> BatchReadPipeline<S> getBatchReadPipeline(List<?> ids, Class<T> entityClass, Class<S> targetClass,
+                                                             String setName) {
+        AerospikeDataSettings settings = converter.getAerospikeDataSettings();
+        return new BatchReadPipeline<>(ids, settings.getBatchReadSize(), settings.getBatchReadConcurrency(),
+            executor, chunk -> (List<S>) findByIdsUsingQuery(chunk, entityClass, targetClass, setName, null));
+    }
+
+    private static List<?> toList(Iterable<?> ids) {
+        if (ids instanceof List<?> list) {
+            return list;
+        }
+        List<Object> idsList = ids instanceof Collection<?> collection ? new ArrayList<>(collection.size())
+            : new ArrayList<>();
+        ids.forEach(idsList::add);
+        return idsList;
+    }
+
     @Override
     public GroupedEntities findByIds(GroupedKeys groupedKeys) {
         validateGroupedKeys(groupedKeys);
@@ -942,6 +1353,11 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         Assert.notNull(entityClass, "Entity class must not be null!");
         Assert.notNull(setName, "Set name must not be null!");
 
+        return timed("findById", setName, () -> doFindByIdUsingQuery(id, entityClass, targetClass, setName, query));
+    }
+
+    private <T, S> Object doFindByIdUsingQuery(Object id, Class<T> entityClass, Class<S> targetClass, String setName,
+                                              Query query) {
         try {
             AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
             Key key = getKey(id, setName);
@@ -949,6 +1365,14 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
             if (targetClass != null && targetClass != entityClass) {
                 return getRecordMapToTargetClass(entity, key, targetClass, query);
             }
+            NearCaches.Cache nearCache;
+            if (!queryCriteriaIsNotNull(query) && !entity.isTouchOnRead() && !nearCaches.isSuspended(setName)
+                && (nearCache = nearCaches.getCache(entity)) != null) {
+                return findByIdUsingNearCache(nearCache, key, entityClass);
+            }
+            if (findByIdBatcher != null && !queryCriteriaIsNotNull(query) && !entity.isTouchOnRead()) {
+                return mapToEntity(key, entityClass, getBatchedRecord(key));
+            }
             return mapToEntity(key, entityClass, getRecord(entity, key, query));
         } catch (AerospikeException e) {
             throw translateError(e);
@@ -978,6 +1402,9 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
                 .toArray(Key[]::new);
 
             BatchPolicy policy = getBatchPolicyFilterExp(query);
+            recordBatchSize("findByIds", setName, keys.length);
+            SlowOperationLog.Measurement measurement = startBatchMeasurement("batchRead", setName, keys.length,
+                query);
 
             Class<?> target;
             Record[] aeroRecords;
@@ -989,10 +1416,22 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
                 aeroRecords = getAerospikeClient().get(policy, keys);
                 target = entityClass;
             }
+            finishBatchMeasurement(measurement, aeroRecords);
 
-            return IntStream.range(0, keys.length)
+            Stream<Integer> foundIndexes = IntStream.range(0, keys.length)
                 .filter(index -> aeroRecords[index] != null)
-                .mapToObj(index -> mapToEntity(keys[index], target, aeroRecords[index]))
+                .boxed();
+            if (isParallelConversionEnabled() && keys.length > CONVERSION_CHUNK_SIZE) {
+                // batch results are always returned in the order of ids
+                List<Object> entities = new ArrayList<>(keys.length);
+                new ParallelConversionIterator<>(foundIndexes.iterator(),
+                    index -> mapToEntity(keys[index], target, aeroRecords[index]), CONVERSION_CHUNK_SIZE,
+                    converter.getAerospikeDataSettings().getConversionParallelism(), true, ForkJoinPool.commonPool())
+                    .forEachRemaining(entities::add);
+                return entities;
+            }
+            return foundIndexes
+                .map(index -> mapToEntity(keys[index], target, aeroRecords[index]))
                 .collect(Collectors.toList());
         } catch (AerospikeException e) {
             throw translateError(e);
@@ -1018,9 +1457,44 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         return findWithPostProcessing(setName, targetClass, query);
     }
 
+    @Override
+    public Stream<KeyRecord> streamRecords(Query query, String setName, String... binNames) {
+        Assert.notNull(setName, "Set name must not be null!");
+        Assert.notNull(binNames, "Bin names must not be null!");
+        Assert.isTrue(query == null || query.getSort() == null || query.getSort().isUnsorted(),
+            "Sorting is not supported for raw records");
+
+        Stream<KeyRecord> records = findRecordsUsingQuery(setName, binNames.length == 0 ? null : binNames, query);
+        if (query == null) {
+            return records;
+        }
+        return applyPostProcessingOnResults(records.filter(getDistinctPredicate(query)), query);
+    }
+
     private <T> Stream<T> find(Class<T> targetClass, String setName) {
-        return findRecordsUsingQuery(setName, targetClass, null)
-            .map(keyRecord -> mapToEntity(keyRecord, targetClass));
+        return mapToEntities(findRecordsUsingQuery(setName, targetClass, null), targetClass);
+    }
+
+    /**
+     * Convert records to entities, concurrently if conversion parallelism is configured.
+     */
+    private <T> Stream<T> mapToEntities(Stream<KeyRecord> records, Class<T> targetClass) {
+        if (!isParallelConversionEnabled()) {
+            return records.map(keyRecord -> mapToEntity(keyRecord, targetClass));
+        }
+        AerospikeDataSettings settings = converter.getAerospikeDataSettings();
+        ParallelConversionIterator<KeyRecord, T> entities = new ParallelConversionIterator<>(records.iterator(),
+            keyRecord -> mapToEntity(keyRecord, targetClass), CONVERSION_CHUNK_SIZE,
+            settings.getConversionParallelism(), settings.isConversionOrdered(), ForkJoinPool.commonPool());
+        return StreamUtils.createStreamFromIterator(entities)
+            .onClose(() -> {
+                entities.close();
+                records.close();
+            });
+    }
+
+    private boolean isParallelConversionEnabled() {
+        return converter.getAerospikeDataSettings().getConversionParallelism() > 1;
     }
 
     @Override
@@ -1066,6 +1540,12 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 
     private <T> Stream<T> findWithPostProcessing(String setName, Class<T> targetClass, Query query) {
         verifyUnsortedWithOffset(query.getSort(), query.getOffset());
+        if (isExternalSortRequired(query.getSort(), query.getOffset(), query.getRows())) {
+            Stream<KeyRecord> records = findRecordsUsingQuery(setName, targetClass, query)
+                .filter(getDistinctPredicate(query));
+            return applyExternalSort(records, targetClass, getComparator(query), query.getOffset(),
+                query.getRows());
+        }
         Stream<T> results = findUsingQueryWithDistinctPredicate(setName, targetClass,
             getDistinctPredicate(query), query);
         return applyPostProcessingOnResults(results, query);
@@ -1082,9 +1562,8 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
     private <T> Stream<T> findUsingQueryWithDistinctPredicate(String setName, Class<T> targetClass,
                                                               Predicate<KeyRecord> distinctPredicate,
                                                               Query query) {
-        return findRecordsUsingQuery(setName, targetClass, query)
-            .filter(distinctPredicate)
-            .map(keyRecord -> mapToEntity(keyRecord, targetClass));
+        return mapToEntities(findRecordsUsingQuery(setName, targetClass, query)
+            .filter(distinctPredicate), targetClass);
     }
 
     @Override
@@ -1120,6 +1599,10 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         Assert.notNull(id, "Id must not be null!");
         Assert.notNull(setName, "Set name must not be null!");
 
+        return timed("exists", setName, () -> doExists(id, setName));
+    }
+
+    private boolean doExists(Object id, String setName) {
         try {
             Key key = getKey(id, setName);
 
@@ -1143,7 +1626,16 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         Assert.notNull(entityClass, "Class must not be null!");
         Assert.notNull(setName, "Set name must not be null!");
 
-        return find(query, entityClass, setName).findAny().isPresent();
+        return timed("existsByQuery", setName, () -> doExistsByQuery(query, setName));
+    }
+
+    private boolean doExistsByQuery(Query query, String setName) {
+        long offset = query.hasOffset() ? query.getOffset() : 0;
+        // only record headers are read, without an offset the server stops after the first matching record
+        long maxRecords = offset > 0 ? queryEngine.getQueryMaxRecords() : 1;
+        try (Stream<KeyRecord> results = countRecordsUsingQuery(setName, query, maxRecords)) {
+            return results.skip(offset).findAny().isPresent();
+        }
     }
 
     @Override
@@ -1157,15 +1649,22 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         Assert.notNull(setName, "Set name must not be null!");
 
         try {
-            Node[] nodes = client.getNodes();
+            String configCommand = ClusterInfoService.NAMESPACE_CONFIG_COMMAND_PREFIX + namespace;
+            String setsCommand = ClusterInfoService.SETS_COMMAND_PREFIX + namespace + "/" + setName;
+            // configuration and objects count are requested from all nodes concurrently in a single request per node
+            List<Map<String, String>> responses = clusterInfoService.requestAllNodes(configCommand, setsCommand);
+            if (responses.isEmpty()) {
+                throw new AerospikeException(ResultCode.SERVER_NOT_AVAILABLE,
+                    "Command failed because cluster is empty.");
+            }
 
-            int replicationFactor = Utils.getReplicationFactor(nodes, namespace);
+            int replicationFactor = Utils.getReplicationFactor(responses.get(0).get(configCommand), namespace);
 
-            long totalObjects = Arrays.stream(nodes)
-                .mapToLong(node -> Utils.getObjectsCount(node, namespace, setName))
+            long totalObjects = responses.stream()
+                .mapToLong(response -> Utils.getObjectsCount(response.get(setsCommand)))
                 .sum();
 
-            return (nodes.length > 1) ? (totalObjects / replicationFactor) : totalObjects;
+            return (responses.size() > 1) ? (totalObjects / replicationFactor) : totalObjects;
         } catch (AerospikeException e) {
             throw translateError(e);
         }
@@ -1179,11 +1678,46 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 
     @Override
     public long count(Query query, String setName) {
-        Stream<KeyRecord> results = countRecordsUsingQuery(setName, query);
+        return timed("count", setName, () -> doCount(query, setName));
+    }
+
+    private long doCount(Query query, String setName) {
+        Stream<KeyRecord> results = countRecordsUsingQuery(setName, query, queryEngine.getQueryMaxRecords());
         return results.count();
     }
 
-    private Stream<KeyRecord> countRecordsUsingQuery(String setName, Query query) {
+    @Override
+    public <T> QueryPlan explain(Query query, Class<T> entityClass) {
+        Assert.notNull(entityClass, "Class must not be null!");
+        return explain(query, getSetName(entityClass));
+    }
+
+    @Override
+    public QueryPlan explain(Query query, String setName) {
+        Assert.notNull(query, "Query must not be null!");
+        Assert.notNull(setName, "Set name must not be null!");
+
+        Qualifier qualifier = queryCriteriaIsNotNull(query) ? query.getCriteriaObject() : null;
+        if (qualifier != null) {
+            Qualifier idQualifier = getIdQualifier(qualifier);
+            if (idQualifier != null) {
+                // a separate flow for a query with id, see findRecordsUsingQuery
+                Qualifier residualQualifier = excludeIdQualifier(qualifier);
+                Exp filterExp = queryEngine.getFilterExpressionsBuilder().buildExp(new Query(residualQualifier));
+                return QueryPlan.builder()
+                    .namespace(namespace)
+                    .setName(setName)
+                    .type(QueryPlan.Type.BATCH_READ)
+                    .filterExp(filterExp)
+                    .filterDescription(filterExp == null ? null : QueryPlan.describe(residualQualifier))
+                    .maxRecords(getIdValue(idQualifier).size())
+                    .build();
+            }
+        }
+        return queryEngine.explain(namespace, setName, null, query);
+    }
+
+    private Stream<KeyRecord> countRecordsUsingQuery(String setName, Query query, long maxRecords) {
         Assert.notNull(setName, "Set name must not be null!");
 
         Qualifier qualifier = queryCriteriaIsNotNull(query) ? query.getCriteriaObject() : null;
@@ -1196,7 +1730,7 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
             }
         }
 
-        KeyRecordIterator recIterator = queryEngine.selectForCount(namespace, setName, query);
+        KeyRecordIterator recIterator = queryEngine.selectForCount(namespace, setName, query, maxRecords);
 
         return StreamUtils.createStreamFromIterator(recIterator)
             .onClose(() -> {
@@ -1283,6 +1817,7 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
             if (task != null) {
                 task.waitTillComplete();
             }
+            clusterInfoService.invalidate(ClusterInfoService.SINDEX_COMMAND_PREFIX);
             refreshIndexesCache();
         } catch (AerospikeException e) {
             throw translateError(e);
@@ -1305,6 +1840,7 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
             if (task != null) {
                 task.waitTillComplete();
             }
+            clusterInfoService.invalidate(ClusterInfoService.SINDEX_COMMAND_PREFIX);
             refreshIndexesCache();
         } catch (AerospikeException e) {
             throw translateError(e);
@@ -1316,9 +1852,12 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         Assert.notNull(indexName, "Index name must not be null!");
 
         try {
-            Node[] nodes = client.getNodes();
-            for (Node node : nodes) {
-                String response = Info.request(node, "sindex-exists:ns=" + namespace + ";indexname=" + indexName);
+            String command = "sindex-exists:ns=" + namespace + ";indexname=" + indexName;
+            // nodes are requested concurrently, responses are evaluated in the order of nodes
+            List<String> responses = clusterInfoService.requestAllNodes(command).stream()
+                .map(response -> response.get(command))
+                .toList();
+            for (String response : responses) {
                 if (response == null) throw new AerospikeException("Null node response");
 
                 if (response.equalsIgnoreCase("true")) {
@@ -1354,12 +1893,21 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 
     private Record doPersistAndHandleError(AerospikeWriteData data, WritePolicy policy, Operation[] operations) {
         try {
-            return client.operate(policy, data.getKey(), operations);
+            return operateAndInvalidateNearCaches(policy, data.getKey(), operations);
         } catch (AerospikeException e) {
             throw translateError(e);
         }
     }
 
+    private Record operateAndInvalidateNearCaches(WritePolicy policy, Key key, Operation... operations) {
+        writeBehindBuffer.write(List.of(key));
+        try {
+            return client.operate(policy, key, operations);
+        } finally {
+            nearCaches.invalidate(key);
+        }
+    }
+
     private <T> void doPersistWithVersionAndHandleCasError(T document, AerospikeWriteData data, WritePolicy policy,
                                                            boolean firstlyDeleteBins, OperationType operationType) {
         try {
@@ -1383,21 +1931,47 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         Key key = data.getKey();
         Operation[] operations = getPutAndGetHeaderOperations(data, firstlyDeleteBins);
 
-        return client.operate(policy, key, operations);
+        return operateAndInvalidateNearCaches(policy, key, operations);
     }
 
     @SuppressWarnings("SameParameterValue")
     private <T> Stream<T> findWithPostProcessing(String setName, Class<T> targetClass, Sort sort, long offset,
                                                  long limit) {
         verifyUnsortedWithOffset(sort, offset);
+        if (isExternalSortRequired(sort, offset, limit)) {
+            Stream<KeyRecord> records = findRecordsUsingQuery(setName, targetClass, null);
+            return applyExternalSort(records, targetClass, getComparator(sort), offset, limit);
+        }
         Stream<T> results = find(targetClass, setName);
         return applyPostProcessingOnResults(results, sort, offset, limit);
     }
 
+    /**
+     * External sort is used for sorted results when it is enabled and the results are not limited to fit in memory.
+     */
+    private boolean isExternalSortRequired(Sort sort, long offset, long limit) {
+        int spillThreshold = converter.getAerospikeDataSettings().getQuerySortSpillThreshold();
+        return spillThreshold > 0 && sort != null && sort.isSorted()
+            && (limit <= 0 || Math.max(offset, 0) + limit > spillThreshold);
+    }
+
+    private <T> Stream<T> applyExternalSort(Stream<KeyRecord> records, Class<T> targetClass, Comparator<T> comparator,
+                                            long offset, long limit) {
+        int spillThreshold = converter.getAerospikeDataSettings().getQuerySortSpillThreshold();
+        Stream<T> results = new ExternalMergeSort<>(comparator,
+            (KeyRecord keyRecord) -> mapToEntity(keyRecord, targetClass), spillThreshold).sort(records);
+        if (offset > 0) {
+            results = results.skip(offset);
+        }
+        if (limit > 0) {
+            results = results.limit(limit);
+        }
+        return results;
+    }
+
     private <T> Stream<T> applyPostProcessingOnResults(Stream<T> results, Query query) {
         if (query.getSort() != null && query.getSort().isSorted()) {
-            Comparator<T> comparator = getComparator(query);
-            results = results.sorted(comparator);
+            return sortWithOffsetAndLimit(results, getComparator(query), query.getOffset(), query.getRows());
         }
         if (query.hasOffset()) {
             results = results.skip(query.getOffset());
@@ -1411,8 +1985,7 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 
     private <T> Stream<T> applyPostProcessingOnResults(Stream<T> results, Sort sort, long offset, long limit) {
         if (sort != null && sort.isSorted()) {
-            Comparator<T> comparator = getComparator(sort);
-            results = results.sorted(comparator);
+            return sortWithOffsetAndLimit(results, getComparator(sort), offset, limit);
         }
 
         if (offset > 0) {
@@ -1426,27 +1999,29 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
     }
 
     private <T> Stream<KeyRecord> findRecordsUsingQuery(String setName, Class<T> targetClass, Query query) {
+        String[] binNames = targetClass != null ? getBinNamesFromTargetClass(targetClass) : null;
+        return findRecordsUsingQuery(setName, binNames, query);
+    }
+
+    private Stream<KeyRecord> findRecordsUsingQuery(String setName, String[] binNames, Query query) {
         Qualifier qualifier = queryCriteriaIsNotNull(query) ? query.getCriteriaObject() : null;
         if (qualifier != null) {
             Qualifier idQualifier = getIdQualifier(qualifier);
             if (idQualifier != null) {
                 // a separate flow for a query with id
-                return findByIdsWithoutMapping(getIdValue(idQualifier), setName, targetClass,
+                return findByIdsWithoutMapping(getIdValue(idQualifier), setName, binNames,
                     new Query(excludeIdQualifier(qualifier))).stream();
             }
         }
 
-        KeyRecordIterator recIterator;
-
-        if (targetClass != null) {
-            String[] binNames = getBinNamesFromTargetClass(targetClass);
-            recIterator = queryEngine.select(namespace, setName, binNames, query);
-        } else {
-            recIterator = queryEngine.select(namespace, setName, query);
-        }
+        KeyRecordIterator recIterator = queryEngine.select(namespace, setName, binNames, query);
 
-        return StreamUtils.createStreamFromIterator(recIterator)
+        QueryMeasurement measurement = startQueryMeasurement("find", setName);
+        return StreamUtils.createStreamFromIterator(measurement == null ? recIterator : measurement.wrap(recIterator))
             .onClose(() -> {
+                if (measurement != null) {
+                    measurement.finish(null);
+                }
                 try {
                     recIterator.close();
                 } catch (Exception e) {
@@ -1455,8 +2030,27 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
             });
     }
 
+    /**
+     * @return Measurement of a batch operation for the slow operation log, {@literal null} if the log is disabled
+     */
+    private SlowOperationLog.Measurement startBatchMeasurement(String operation, String setName, int batchSize,
+                                                               Query query) {
+        return queryEngine.getSlowOperationLog().start(operation, setName, () -> batchSize + " keys"
+            + (queryCriteriaIsNotNull(query) ? ", filter expression " + QueryPlan.describe(query.getCriteriaObject())
+            : ""));
+    }
+
+    private static void finishBatchMeasurement(SlowOperationLog.Measurement measurement, Record[] aeroRecords) {
+        if (measurement != null) {
+            if (aeroRecords != null) {
+                measurement.onRecords(aeroRecords);
+            }
+            measurement.finish();
+        }
+    }
+
     private List<KeyRecord> findByIdsWithoutMapping(Collection<?> ids, String setName,
-                                                    Class<?> targetClass, Query query) {
+                                                    String[] binNames, Query query) {
         Assert.notNull(ids, "Ids must not be null");
         if (ids.isEmpty()) {
             return Collections.emptyList();
@@ -1466,14 +2060,16 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
             Key[] keys = getKeys(ids, setName);
 
             BatchPolicy policy = getBatchPolicyFilterExp(query);
+            SlowOperationLog.Measurement measurement = startBatchMeasurement("batchRead", setName, keys.length,
+                query);
 
             Record[] aeroRecords;
-            if (targetClass != null) {
-                String[] binNames = getBinNamesFromTargetClass(targetClass);
+            if (binNames != null) {
                 aeroRecords = getAerospikeClient().get(policy, keys, binNames);
             } else {
                 aeroRecords = getAerospikeClient().get(policy, keys);
             }
+            finishBatchMeasurement(measurement, aeroRecords);
 
             return IntStream.range(0, keys.length)
                 .filter(index -> aeroRecords[index] != null)
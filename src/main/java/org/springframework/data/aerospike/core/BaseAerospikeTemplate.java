@@ -32,9 +32,9 @@ import com.aerospike.client.query.KeyRecord;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.support.PropertyComparator;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.aerospike.config.AerospikeDataSettings;
 import org.springframework.data.aerospike.convert.AerospikeReadData;
 import org.springframework.data.aerospike.convert.AerospikeWriteData;
 import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
@@ -45,6 +45,8 @@ import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
 import org.springframework.data.aerospike.mapping.AerospikePersistentProperty;
 import org.springframework.data.aerospike.mapping.BasicAerospikePersistentEntity;
 import org.springframework.data.aerospike.mapping.Field;
+import org.springframework.data.aerospike.metrics.AerospikeMetrics;
+import org.springframework.data.aerospike.metrics.AerospikeMetrics.ConversionDirection;
 import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.aerospike.server.version.ServerVersionSupport;
 import org.springframework.data.domain.Sort;
@@ -52,6 +54,7 @@ import org.springframework.data.keyvalue.core.IterableConverter;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 
 import java.time.Instant;
@@ -59,9 +62,16 @@ import java.util.Calendar;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -84,6 +94,8 @@ abstract class BaseAerospikeTemplate {
     protected final WritePolicy writePolicyDefault;
     protected final BatchWritePolicy batchWritePolicyDefault;
     protected final ServerVersionSupport serverVersionSupport;
+    protected final SortComparators sortComparators;
+    protected volatile AerospikeMetrics metrics = AerospikeMetrics.NOOP;
 
     BaseAerospikeTemplate(String namespace,
                           MappingAerospikeConverter converter,
@@ -102,10 +114,72 @@ abstract class BaseAerospikeTemplate {
         this.writePolicyDefault = writePolicyDefault;
         this.batchWritePolicyDefault = getFromWritePolicy(writePolicyDefault);
         this.serverVersionSupport = serverVersionSupport;
+        this.sortComparators = new SortComparators(mappingContext);
 
         loggerSetup();
     }
 
+    /**
+     * Set metrics receiving measurements of this template's operations, {@link AerospikeMetrics#NOOP} by default.
+     */
+    public void setMetrics(AerospikeMetrics metrics) {
+        Assert.notNull(metrics, "Metrics must not be null!");
+        this.metrics = metrics;
+    }
+
+    void timed(String operation, String setName, Runnable action) {
+        timed(operation, setName, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    <R> R timed(String operation, String setName, Supplier<R> action) {
+        AerospikeMetrics metrics = this.metrics;
+        if (!metrics.isEnabled()) {
+            return action.get();
+        }
+        long start = System.nanoTime();
+        try {
+            R result = action.get();
+            metrics.recordOperation(operation, setName, System.nanoTime() - start, null);
+            return result;
+        } catch (RuntimeException e) {
+            metrics.recordOperation(operation, setName, System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+
+    void recordBatchSize(String operation, String setName, int size) {
+        AerospikeMetrics metrics = this.metrics;
+        if (metrics.isEnabled()) {
+            metrics.recordBatchSize(operation, setName, size);
+        }
+    }
+
+    /**
+     * @return Measurement of a query that has been started, or {@literal null} if metrics are disabled
+     */
+    QueryMeasurement startQueryMeasurement(String operation, String setName) {
+        AerospikeMetrics metrics = this.metrics;
+        return metrics.isEnabled() ? new QueryMeasurement(metrics, operation, setName) : null;
+    }
+
+    /**
+     * @return Batcher combining reads by id into batch reads using the given reader, or {@literal null} if it is
+     * disabled in {@link AerospikeDataSettings}
+     */
+    RecordBatcher createRecordBatcher(Function<Key[], CompletableFuture<Record[]>> batchReader) {
+        AerospikeDataSettings settings = converter.getAerospikeDataSettings();
+        if (settings.getFindByIdBatchWindowMicros() <= 0) {
+            return null;
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("aerospike-find-by-id-batcher-");
+        threadFactory.setDaemon(true);
+        return new RecordBatcher(TimeUnit.MICROSECONDS.toNanos(settings.getFindByIdBatchWindowMicros()),
+            settings.getFindByIdBatchSize(), Executors.newSingleThreadScheduledExecutor(threadFactory), batchReader);
+    }
+
     private BatchWritePolicy getFromWritePolicy(WritePolicy writePolicy) {
         BatchWritePolicy batchWritePolicy = new BatchWritePolicy();
         batchWritePolicy.commitLevel = writePolicy.commitLevel;
@@ -164,27 +238,22 @@ abstract class BaseAerospikeTemplate {
             return null;
         }
         AerospikeReadData data = AerospikeReadData.forRead(key, aeroRecord);
-        return converter.read(clazz, data);
+        AerospikeMetrics metrics = this.metrics;
+        if (!metrics.isEnabled()) {
+            return converter.read(clazz, data);
+        }
+        long start = System.nanoTime();
+        T result = converter.read(clazz, data);
+        metrics.recordConversion(ConversionDirection.READ, clazz, System.nanoTime() - start);
+        return result;
     }
 
     protected <T> Comparator<T> getComparator(Query query) {
-        return query.getSort().stream()
-            .map(this::<T>getPropertyComparator)
-            .reduce(Comparator::thenComparing)
-            .orElseThrow(() -> new IllegalStateException("Comparator can not be created if sort orders are empty"));
+        return sortComparators.getComparator(query.getSort());
     }
 
     protected <T> Comparator<T> getComparator(Sort sort) {
-        return sort.stream()
-            .map(this::<T>getPropertyComparator)
-            .reduce(Comparator::thenComparing)
-            .orElseThrow(() -> new IllegalStateException("Comparator can not be created if sort orders are empty"));
-    }
-
-    private <T> Comparator<T> getPropertyComparator(Sort.Order order) {
-        boolean ignoreCase = true;
-        boolean ascending = order.getDirection().isAscending();
-        return new PropertyComparator<>(order.getProperty(), ignoreCase, ascending);
+        return sortComparators.getComparator(sort);
     }
 
     <T> ConvertingPropertyAccessor<T> getPropertyAccessor(AerospikePersistentEntity<?> entity, T source) {
@@ -225,18 +294,29 @@ abstract class BaseAerospikeTemplate {
     <T> AerospikeWriteData writeData(T document, String setName) {
         AerospikeWriteData data = AerospikeWriteData.forWrite(getNamespace());
         data.setSetName(setName);
-        converter.write(document, data);
+        write(document, data);
         return data;
     }
 
     <T> AerospikeWriteData writeDataWithSpecificFields(T document, String setName, Collection<String> fields) {
         AerospikeWriteData data = AerospikeWriteData.forWrite(getNamespace());
         data.setSetName(setName);
-        data.setRequestedBins(fieldsToBinNames(document, fields));
-        converter.write(document, data);
+        data.setRequestedBins(fieldsToBinNames(document.getClass(), fields));
+        write(document, data);
         return data;
     }
 
+    private <T> void write(T document, AerospikeWriteData data) {
+        AerospikeMetrics metrics = this.metrics;
+        if (!metrics.isEnabled()) {
+            converter.write(document, data);
+            return;
+        }
+        long start = System.nanoTime();
+        converter.write(document, data);
+        metrics.recordConversion(ConversionDirection.WRITE, document.getClass(), System.nanoTime() - start);
+    }
+
     WritePolicy expectGenerationCasAwarePolicy(AerospikeWriteData data) {
         RecordExistsAction recordExistsAction = data.getVersion()
             .filter(v -> v > 0L)
@@ -348,8 +428,8 @@ abstract class BaseAerospikeTemplate {
             .collect(Collectors.toMap(Map.Entry::getKey, entry -> toKeysList(entry.getKey(), entry.getValue())));
     }
 
-    private <T> List<String> fieldsToBinNames(T document, Collection<String> fields) {
-        AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(document.getClass());
+    List<String> fieldsToBinNames(Class<?> entityClass, Collection<String> fields) {
+        AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
 
         return fields.stream()
             .map(field -> {
@@ -557,4 +637,60 @@ abstract class BaseAerospikeTemplate {
     protected record BatchWriteData<T>(T document, BatchRecord batchRecord, boolean hasVersionProperty) {
 
     }
+
+    /**
+     * Measures duration and number of records of a query until its results are consumed or closed.
+     */
+    static class QueryMeasurement {
+
+        private final AerospikeMetrics metrics;
+        private final String operation;
+        private final String setName;
+        private final long start = System.nanoTime();
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private long records;
+
+        QueryMeasurement(AerospikeMetrics metrics, String operation, String setName) {
+            this.metrics = metrics;
+            this.operation = operation;
+            this.setName = setName;
+        }
+
+        void onRecord() {
+            records++;
+        }
+
+        void finish(Throwable error) {
+            if (finished.compareAndSet(false, true)) {
+                metrics.recordOperation(operation, setName, System.nanoTime() - start, error);
+                metrics.recordQueryResults(setName, records);
+            }
+        }
+
+        <T> Iterator<T> wrap(Iterator<T> iterator) {
+            return new Iterator<>() {
+
+                @Override
+                public boolean hasNext() {
+                    try {
+                        boolean hasNext = iterator.hasNext();
+                        if (!hasNext) {
+                            finish(null);
+                        }
+                        return hasNext;
+                    } catch (RuntimeException e) {
+                        finish(e);
+                        throw e;
+                    }
+                }
+
+                @Override
+                public T next() {
+                    T next = iterator.next();
+                    onRecord();
+                    return next;
+                }
+            };
+        }
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.AerospikeException;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Reads ids in chunks of the given size keeping up to the given amount of chunk reads in flight.
+ * <p>
+ * Chunk results are returned in the order of the ids, each one as soon as it and all preceding chunks are completed.
+ */
+class BatchReadPipeline<S> implements Iterator<List<S>>, AutoCloseable {
+
+    private final List<?> ids;
+    private final int chunkSize;
+    private final int concurrency;
+    private final Executor executor;
+    private final Function<List<?>, List<S>> chunkReader;
+    private final Deque<Future<List<S>>> inFlight;
+    private int nextChunkStart;
+
+    /**
+     * @param ids         Ids to read
+     * @param chunkSize   Maximum amount of ids in a single read
+     * @param concurrency Maximum amount of reads in flight, values lower than 2 mean sequential reads in the calling
+     *                    thread
+     * @param executor    Executor to run reads with when concurrency is greater than 1
+     * @param chunkReader Function reading a chunk of ids
+     */
+    BatchReadPipeline(List<?> ids, int chunkSize, int concurrency, Executor executor,
+                      Function<List<?>, List<S>> chunkReader) {
+        this.ids = ids;
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.concurrency = Math.max(concurrency, 1);
+        this.executor = executor;
+        this.chunkReader = chunkReader;
+        this.inFlight = new ArrayDeque<>(this.concurrency);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !inFlight.isEmpty() || nextChunkStart < ids.size();
+    }
+
+    @Override
+    public List<S> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        if (concurrency == 1) {
+            return chunkReader.apply(nextChunk());
+        }
+        while (inFlight.size() < concurrency && nextChunkStart < ids.size()) {
+            List<?> chunk = nextChunk();
+            inFlight.add(CompletableFuture.supplyAsync(() -> chunkReader.apply(chunk), executor));
+        }
+        return await(inFlight.poll());
+    }
+
+    /**
+     * Cancel reads that are still in flight.
+     */
+    @Override
+    public void close() {
+        inFlight.forEach(future -> future.cancel(true));
+        inFlight.clear();
+        nextChunkStart = ids.size();
+    }
+
+    private List<?> nextChunk() {
+        int chunkEnd = Math.min(nextChunkStart + chunkSize, ids.size());
+        List<?> chunk = ids.subList(nextChunkStart, chunkEnd);
+        nextChunkStart = chunkEnd;
+        return chunk;
+    }
+
+    private List<S> await(Future<List<S>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new AerospikeException(e);
+        } catch (ExecutionException e) {
+            close();
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new AerospikeException(e.getCause());
+        }
+    }
+}
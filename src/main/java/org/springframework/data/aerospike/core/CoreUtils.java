@@ -23,12 +23,19 @@ import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.domain.Sort;
 import org.springframework.lang.Nullable;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class CoreUtils {
 
@@ -92,6 +99,67 @@ public class CoreUtils {
         }
     }
 
+    /**
+     * Sort the given results and apply offset and limit.
+     * <p>
+     * If limit is positive, only the first offset + limit elements are retained while consuming the results (using a
+     * bounded heap), otherwise all the results are sorted. The order of equal elements is preserved in both cases.
+     *
+     * @param results    Results to sort
+     * @param comparator Comparator to sort with
+     * @param offset     Amount of the first sorted elements to skip, non-positive value means no offset
+     * @param limit      Maximum amount of elements to return, non-positive value means no limit
+     * @return Sorted results with offset and limit applied
+     */
+    public static <T> Stream<T> sortWithOffsetAndLimit(Stream<T> results, Comparator<T> comparator, long offset,
+                                                       long limit) {
+        long skip = Math.max(offset, 0);
+        if (limit <= 0 || skip + limit >= Integer.MAX_VALUE || skip + limit < 0) {
+            Stream<T> sorted = results.sorted(comparator);
+            if (skip > 0) {
+                sorted = sorted.skip(skip);
+            }
+            if (limit > 0) {
+                sorted = sorted.limit(limit);
+            }
+            return sorted;
+        }
+
+        int boundedSize = (int) (skip + limit);
+        return StreamSupport.stream(() -> {
+                List<T> first = selectFirst(results.iterator(), comparator, boundedSize);
+                return first.subList((int) Math.min(skip, first.size()), first.size()).spliterator();
+            }, Spliterator.ORDERED, false)
+            .onClose(results::close);
+    }
+
+    private static <T> List<T> selectFirst(Iterator<T> iterator, Comparator<T> comparator, int size) {
+        Comparator<IndexedElement<T>> order = Comparator.<IndexedElement<T>, T>comparing(IndexedElement::value,
+            comparator).thenComparingLong(IndexedElement::index);
+        // the greatest retained element is at the head, so it is the one to be replaced
+        PriorityQueue<IndexedElement<T>> heap = new PriorityQueue<>(Math.min(size, 1024), order.reversed());
+        long index = 0;
+        while (iterator.hasNext()) {
+            IndexedElement<T> element = new IndexedElement<>(iterator.next(), index++);
+            if (heap.size() < size) {
+                heap.add(element);
+            } else if (order.compare(element, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(element);
+            }
+        }
+
+        List<IndexedElement<T>> sorted = new ArrayList<>(heap);
+        sorted.sort(order);
+        List<T> result = new ArrayList<>(sorted.size());
+        sorted.forEach(element -> result.add(element.value()));
+        return result;
+    }
+
+    private record IndexedElement<T>(T value, long index) {
+
+    }
+
     static Predicate<KeyRecord> getDistinctPredicate(Query query) {
         Predicate<KeyRecord> distinctPredicate;
         if (query != null && query.isDistinct()) {
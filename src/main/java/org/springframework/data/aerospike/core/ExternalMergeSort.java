@@ -0,0 +1,305 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.Value;
+import com.aerospike.client.query.KeyRecord;
+import com.aerospike.client.util.Packer;
+import com.aerospike.client.util.Unpacker;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Sorts query results that may not fit in memory.
+ * <p>
+ * Records are buffered in their serialized form until the in-memory limit is reached, then they are mapped, sorted
+ * and written to a temporary file as a sorted run, keeping no mapped elements. The runs are merged lazily while the
+ * resulting stream is consumed, reading them through memory-mapped buffers, so only one mapped element per run is
+ * kept in memory at a time. Records of the last buffer are mapped once, records of written runs are mapped again when
+ * they are read back. The order of equal elements is preserved.
+ * <p>
+ * Temporary files are removed when the resulting stream is fully consumed or closed, or when it becomes unreachable
+ * otherwise.
+ */
+@Slf4j
+class ExternalMergeSort<T> {
+
+    // a single run file is mapped as a whole, so it must not exceed the maximum size of a mapped buffer
+    private static final long MAX_RUN_FILE_BYTES = Integer.MAX_VALUE / 2;
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final Function<KeyRecord, T> mapper;
+    private final int inMemoryLimit;
+    private final Comparator<SortedElement<T>> order;
+
+    /**
+     * @param comparator    Comparator to sort mapped elements with
+     * @param mapper        Function mapping a record to an element
+     * @param inMemoryLimit Maximum amount of records buffered in memory before a sorted run is written to disk
+     */
+    ExternalMergeSort(Comparator<T> comparator, Function<KeyRecord, T> mapper, int inMemoryLimit) {
+        this.mapper = mapper;
+        this.inMemoryLimit = Math.max(inMemoryLimit, 1);
+        this.order = Comparator.<SortedElement<T>, T>comparing(SortedElement::element, comparator)
+            .thenComparingLong(SortedElement::index);
+    }
+
+    /**
+     * Sort the given records lazily, the records are consumed when the resulting stream is first traversed. Closing the
+     * resulting stream closes the given one and removes temporary files.
+     */
+    Stream<T> sort(Stream<KeyRecord> records) {
+        RunFiles runFiles = new RunFiles();
+        return StreamSupport.stream(() -> {
+                Iterator<T> iterator = merge(records.iterator(), runFiles);
+                return Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED);
+            }, Spliterator.ORDERED, false)
+            .onClose(() -> {
+                runFiles.run();
+                records.close();
+            });
+    }
+
+    private Iterator<T> merge(Iterator<KeyRecord> records, RunFiles runFiles) {
+        List<Iterator<SortedElement<T>>> runs = new ArrayList<>();
+        List<byte[]> buffer = new ArrayList<>();
+        List<SortedElement<T>> lastRun;
+        try {
+            long index = 0;
+            while (records.hasNext()) {
+                buffer.add(pack(records.next(), index++));
+                if (buffer.size() >= inMemoryLimit) {
+                    writeRuns(buffer, index - buffer.size(), runs, runFiles);
+                    buffer.clear();
+                }
+            }
+            lastRun = sort(buffer);
+        } catch (RuntimeException e) {
+            runFiles.run();
+            throw e;
+        }
+        if (runs.isEmpty()) {
+            return lastRun.stream().map(SortedElement::element).iterator();
+        }
+        log.debug("Merging {} sorted runs written to disk", runs.size());
+        runs.add(lastRun.iterator());
+        return new MergingIterator<>(runs, order, runFiles);
+    }
+
+    private List<SortedElement<T>> sort(List<byte[]> buffer) {
+        List<SortedElement<T>> sortedBuffer = new ArrayList<>(buffer.size());
+        buffer.forEach(bytes -> sortedBuffer.add(unpack(bytes, mapper)));
+        sortedBuffer.sort(order);
+        return sortedBuffer;
+    }
+
+    private void writeRuns(List<byte[]> buffer, long firstIndex, List<Iterator<SortedElement<T>>> runs,
+                           RunFiles runFiles) {
+        List<SortedElement<T>> sortedBuffer = sort(buffer);
+        Path file = null;
+        DataOutputStream output = null;
+        long fileSize = 0;
+        try {
+            for (SortedElement<T> sortedElement : sortedBuffer) {
+                if (output == null || fileSize >= MAX_RUN_FILE_BYTES) {
+                    if (output != null) {
+                        output.close();
+                        runs.add(new FileRun<>(file, mapper, runFiles));
+                    }
+                    file = runFiles.create();
+                    output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+                    fileSize = 0;
+                }
+                // buffered records have consecutive indexes, the index gives the position of the serialized record
+                byte[] bytes = buffer.get((int) (sortedElement.index() - firstIndex));
+                output.writeInt(bytes.length);
+                output.write(bytes);
+                fileSize += Integer.BYTES + bytes.length;
+            }
+            if (output != null) {
+                output.close();
+                runs.add(new FileRun<>(file, mapper, runFiles));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write sorted run to " + file, e);
+        }
+    }
+
+    private static byte[] pack(KeyRecord keyRecord, long index) {
+        Key key = keyRecord.key;
+        Record record = keyRecord.record;
+        Object userKey = key.userKey == null ? null : key.userKey.getObject();
+        return Packer.pack(Arrays.asList(index, key.namespace, key.setName, key.digest, userKey, record.generation,
+            record.expiration, record.bins));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> SortedElement<T> unpack(byte[] bytes, Function<KeyRecord, T> mapper) {
+        List<Object> values = Unpacker.unpackObjectList(bytes, 0, bytes.length);
+        Object userKey = values.get(4);
+        Key key = new Key((String) values.get(1), (byte[]) values.get(3), (String) values.get(2),
+            userKey == null ? null : Value.get(userKey));
+        Record record = new Record((Map<String, Object>) values.get(7), ((Number) values.get(5)).intValue(),
+            ((Number) values.get(6)).intValue());
+        return new SortedElement<>(mapper.apply(new KeyRecord(key, record)), ((Number) values.get(0)).longValue());
+    }
+
+    private record SortedElement<T>(T element, long index) {
+
+    }
+
+    /**
+     * Temporary files of sorted runs, running it removes the remaining ones.
+     */
+    private static class RunFiles implements Runnable {
+
+        // guarded by this
+        private final List<Path> files = new ArrayList<>();
+
+        synchronized Path create() throws IOException {
+            Path file = Files.createTempFile("aerospike-sort-", ".run");
+            files.add(file);
+            return file;
+        }
+
+        synchronized void delete(Path file) {
+            if (files.remove(file)) {
+                deleteFile(file);
+            }
+        }
+
+        @Override
+        public synchronized void run() {
+            files.forEach(RunFiles::deleteFile);
+            files.clear();
+        }
+
+        private static void deleteFile(Path file) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Failed to delete sorted run {}", file, e);
+            }
+        }
+    }
+
+    private static class FileRun<T> implements Iterator<SortedElement<T>> {
+
+        private final Path file;
+        private final Function<KeyRecord, T> mapper;
+        private final RunFiles runFiles;
+        private MappedByteBuffer buffer;
+
+        FileRun(Path file, Function<KeyRecord, T> mapper, RunFiles runFiles) {
+            this.file = file;
+            this.mapper = mapper;
+            this.runFiles = runFiles;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (buffer == null) {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                    buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to read sorted run from " + file, e);
+                }
+            }
+            boolean hasNext = buffer.hasRemaining();
+            if (!hasNext) {
+                runFiles.delete(file);
+            }
+            return hasNext;
+        }
+
+        @Override
+        public SortedElement<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            return unpack(bytes, mapper);
+        }
+    }
+
+    private static class MergingIterator<T> implements Iterator<T> {
+
+        private final PriorityQueue<Head<T>> heads;
+        // removes remaining run files if the iterator is dropped before it is exhausted
+        private final Cleaner.Cleanable cleanable;
+
+        MergingIterator(List<Iterator<SortedElement<T>>> runs, Comparator<SortedElement<T>> order,
+                        RunFiles runFiles) {
+            this.cleanable = CLEANER.register(this, runFiles);
+            this.heads = new PriorityQueue<>(runs.size(), (first, second) -> order.compare(first.element(),
+                second.element()));
+            runs.stream()
+                .filter(Iterator::hasNext)
+                .forEach(run -> heads.add(new Head<>(run.next(), run)));
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (heads.isEmpty()) {
+                cleanable.clean();
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            Head<T> head = heads.poll();
+            if (head == null) {
+                throw new NoSuchElementException();
+            }
+            if (head.run().hasNext()) {
+                heads.add(new Head<>(head.run().next(), head.run()));
+            }
+            return head.element().element();
+        }
+
+        private record Head<T>(SortedElement<T> element, Iterator<SortedElement<T>> run) {
+
+        }
+    }
+}
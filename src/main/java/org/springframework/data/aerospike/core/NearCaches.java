@@ -0,0 +1,194 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import lombok.Getter;
+import org.springframework.data.aerospike.annotation.NearCache;
+import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-process caches of documents read by id, one per entity class annotated with {@link NearCache}.
+ * <p>
+ * Each cache holds records rather than documents, so every reader gets its own document mapped from the cached record
+ * and may modify it. Caches are bounded by size and by time to live. Writes invalidate cached records by key in all
+ * caches, since several entity classes may share a set. An invalidation also rejects records of the same key that were
+ * being read concurrently, so a record read before a write can not be cached after it.
+ * <p>
+ * Background operations change records of a set that are not known in advance, so caches are not used for the set
+ * while such an operation is running.
+ */
+class NearCaches {
+
+    private final Map<Class<?>, Optional<Cache>> caches = new ConcurrentHashMap<>();
+    private final Collection<Cache> activeCaches = new CopyOnWriteArrayList<>();
+    // amount of running background operations per set
+    private final Map<String, Integer> suspendedSets = new ConcurrentHashMap<>();
+
+    /**
+     * @return Cache of the given entity or {@literal null} if the entity is not annotated with {@link NearCache}
+     */
+    @Nullable
+    Cache getCache(AerospikePersistentEntity<?> entity) {
+        return caches.computeIfAbsent(entity.getType(), type -> {
+            NearCache nearCache = entity.findAnnotation(NearCache.class);
+            if (nearCache == null) {
+                return Optional.empty();
+            }
+            Cache cache = new Cache(nearCache.maxSize(), nearCache.ttlUnit().toNanos(nearCache.ttl()),
+                nearCache.validate());
+            activeCaches.add(cache);
+            return Optional.of(cache);
+        }).orElse(null);
+    }
+
+    void invalidate(Key key) {
+        for (Cache cache : activeCaches) {
+            cache.invalidate(key);
+        }
+    }
+
+    void invalidate(Collection<Key> keys) {
+        if (activeCaches.isEmpty()) {
+            return;
+        }
+        keys.forEach(this::invalidate);
+    }
+
+    void clear() {
+        activeCaches.forEach(Cache::clear);
+    }
+
+    /**
+     * Stop using caches for records of the given set until {@link #resume(String)} is called, records that are being
+     * read are not cached.
+     */
+    void suspend(String setName) {
+        suspendedSets.merge(setName, 1, Integer::sum);
+        clear();
+    }
+
+    /**
+     * Use caches for records of the given set again once every {@link #suspend(String)} has been resumed, clearing
+     * records cached before.
+     */
+    void resume(String setName) {
+        clear();
+        suspendedSets.computeIfPresent(setName, (set, count) -> count == 1 ? null : count - 1);
+    }
+
+    boolean isSuspended(String setName) {
+        return suspendedSets.containsKey(setName);
+    }
+
+    static class Cache {
+
+        private final long ttlNanos;
+        @Getter
+        private final boolean validate;
+        private final Map<Key, Entry> entries;
+        // keys being read, guarded by this
+        private final Map<Key, Load> loads = new HashMap<>();
+
+        Cache(int maxSize, long ttlNanos, boolean validate) {
+            this.ttlNanos = ttlNanos;
+            this.validate = validate;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        @Nullable
+        synchronized Entry get(Key key) {
+            Entry entry = entries.get(key);
+            if (entry != null && ttlNanos > 0 && System.nanoTime() - entry.expiresAt() > 0) {
+                entries.remove(key);
+                return null;
+            }
+            return entry;
+        }
+
+        /**
+         * Start reading a record, has to be followed by {@link #finishLoad(Key, Record, long)}.
+         *
+         * @return Version of the key that has to be passed to {@link #finishLoad(Key, Record, long)}
+         */
+        synchronized long startLoad(Key key) {
+            Load load = loads.computeIfAbsent(key, k -> new Load());
+            load.readers++;
+            return load.version;
+        }
+
+        /**
+         * Cache a record read since {@link #startLoad(Key)} unless its key has been invalidated meanwhile.
+         *
+         * @param aeroRecord Record that has been read, {@literal null} if it does not exist or reading failed
+         */
+        synchronized void finishLoad(Key key, @Nullable Record aeroRecord, long version) {
+            Load load = loads.get(key);
+            if (aeroRecord != null && load.version == version) {
+                // bins are shared by all readers mapping the record, so they are made read-only
+                Record cached = new Record(Collections.unmodifiableMap(aeroRecord.bins), aeroRecord.generation,
+                    aeroRecord.expiration);
+                entries.put(key, new Entry(cached, System.nanoTime() + ttlNanos));
+            }
+            if (--load.readers == 0) {
+                loads.remove(key);
+            }
+        }
+
+        synchronized void invalidate(Key key) {
+            entries.remove(key);
+            Load load = loads.get(key);
+            if (load != null) {
+                load.version++;
+            }
+        }
+
+        synchronized void clear() {
+            entries.clear();
+            loads.values().forEach(load -> load.version++);
+        }
+    }
+
+    /**
+     * Concurrent reads of a key, the version is incremented by every invalidation of the key while it is being read.
+     */
+    private static class Load {
+
+        private int readers;
+        private long version;
+    }
+
+    record Entry(Record aeroRecord, long expiresAt) {
+
+    }
+}
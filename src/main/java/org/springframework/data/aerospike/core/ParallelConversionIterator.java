@@ -0,0 +1,161 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.AerospikeException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+
+/**
+ * Converts elements of a source iterator concurrently, in chunks of the given size keeping up to the given amount of
+ * chunk conversions in flight.
+ * <p>
+ * The source is only read by the consuming thread. In ordered mode converted elements are returned in the order of
+ * the source, in unordered mode each chunk is returned as soon as it is converted.
+ */
+class ParallelConversionIterator<S, T> implements Iterator<T>, AutoCloseable {
+
+    private final Iterator<S> source;
+    private final Function<S, T> converter;
+    private final int chunkSize;
+    private final int concurrency;
+    private final boolean ordered;
+    private final Executor executor;
+    private final Deque<CompletableFuture<List<T>>> inFlight;
+    private final BlockingQueue<Future<List<T>>> completed;
+    private Iterator<T> currentChunk = Collections.emptyIterator();
+    private boolean closed;
+
+    /**
+     * @param source      Elements to convert
+     * @param converter   Function converting a single element, must be thread-safe
+     * @param chunkSize   Maximum amount of elements converted by a single task
+     * @param concurrency Maximum amount of chunk conversions in flight
+     * @param ordered     Whether to return converted elements in the order of the source
+     * @param executor    Executor to run conversions with
+     */
+    ParallelConversionIterator(Iterator<S> source, Function<S, T> converter, int chunkSize, int concurrency,
+                               boolean ordered, Executor executor) {
+        this.source = source;
+        this.converter = converter;
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.concurrency = Math.max(concurrency, 1);
+        this.ordered = ordered;
+        this.executor = executor;
+        this.inFlight = new ArrayDeque<>(this.concurrency);
+        this.completed = ordered ? null : new LinkedBlockingQueue<>();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!currentChunk.hasNext()) {
+            if (closed) {
+                return false;
+            }
+            submitChunks();
+            if (inFlight.isEmpty()) {
+                return false;
+            }
+            currentChunk = await(nextCompleted()).iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return currentChunk.next();
+    }
+
+    /**
+     * Cancel conversions that are still in flight.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        inFlight.forEach(future -> future.cancel(false));
+        inFlight.clear();
+        currentChunk = Collections.emptyIterator();
+    }
+
+    private void submitChunks() {
+        while (inFlight.size() < concurrency && source.hasNext()) {
+            List<S> chunk = new ArrayList<>(chunkSize);
+            while (chunk.size() < chunkSize && source.hasNext()) {
+                chunk.add(source.next());
+            }
+            CompletableFuture<List<T>> future = CompletableFuture.supplyAsync(() -> convert(chunk), executor);
+            if (!ordered) {
+                future.whenComplete((result, e) -> completed.add(future));
+            }
+            inFlight.add(future);
+        }
+    }
+
+    private List<T> convert(List<S> chunk) {
+        List<T> result = new ArrayList<>(chunk.size());
+        for (S element : chunk) {
+            result.add(converter.apply(element));
+        }
+        return result;
+    }
+
+    private Future<List<T>> nextCompleted() {
+        if (ordered) {
+            return inFlight.poll();
+        }
+        try {
+            Future<List<T>> future = completed.take();
+            inFlight.remove(future);
+            return future;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new AerospikeException(e);
+        }
+    }
+
+    private List<T> await(Future<List<T>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new AerospikeException(e);
+        } catch (ExecutionException e) {
+            close();
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new AerospikeException(e.getCause());
+        }
+    }
+}
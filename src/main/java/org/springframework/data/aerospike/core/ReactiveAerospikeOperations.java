@@ -20,7 +20,9 @@ import com.aerospike.client.cdt.CTX;
 import com.aerospike.client.policy.WritePolicy;
 import com.aerospike.client.query.IndexCollectionType;
 import com.aerospike.client.query.IndexType;
+import com.aerospike.client.query.KeyRecord;
 import com.aerospike.client.reactor.IAerospikeReactorClient;
+import org.reactivestreams.Publisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.aerospike.config.AerospikeDataSettings;
@@ -153,6 +155,27 @@ public interface ReactiveAerospikeOperations {
      */
     <T> Flux<T> saveAll(Iterable<T> documents, String setName);
 
+    /**
+     * Reactively save a stream of documents within the given set. The policies are analogous to {@link #save(Object)}.
+     * <p>
+     * Documents are written in batches of {@link AerospikeDataSettings#getBatchWriteSize()} as they arrive, up to
+     * {@link AerospikeDataSettings#getBatchWriteConcurrency()} batches are written concurrently. The order of returned
+     * results is preserved.
+     * <p>
+     * Requires Server version 6.0+.
+     *
+     * @param documents The documents to be saved. Must not be {@literal null}.
+     * @param setName   The set name to save to documents.
+     * @return A Flux of the saved documents
+     * @throws AerospikeException.BatchRecordArray if a batch save succeeds, but results contain errors or null
+     *                                             records.
+     * @throws OptimisticLockingFailureException   if at least one document has a version attribute with a different
+     *                                             value from that found on server.
+     * @throws DataAccessException                 if batch operation failed (see
+     *                                             {@link DefaultAerospikeExceptionTranslator} for details).
+     */
+    <T> Flux<T> saveAll(Publisher<T> documents, String setName);
+
     /**
      * Reactively insert a document using {@link com.aerospike.client.policy.RecordExistsAction#CREATE_ONLY} policy.
      * <p>
@@ -221,6 +244,28 @@ public interface ReactiveAerospikeOperations {
      */
     <T> Flux<T> insertAll(Iterable<? extends T> documents, String setName);
 
+    /**
+     * Reactively insert a stream of documents within the given set. The policies are analogous to
+     * {@link #insert(Object)}.
+     * <p>
+     * Documents are written in batches of {@link AerospikeDataSettings#getBatchWriteSize()} as they arrive, up to
+     * {@link AerospikeDataSettings#getBatchWriteConcurrency()} batches are written concurrently. The order of returned
+     * results is preserved.
+     * <p>
+     * Requires Server version 6.0+.
+     *
+     * @param documents Documents to insert. Must not be {@literal null}.
+     * @param setName   The set name to insert the documents.
+     * @return A Flux of the inserted documents
+     * @throws AerospikeException.BatchRecordArray if a batch insert succeeds, but results contain errors or null
+     *                                             records.
+     * @throws OptimisticLockingFailureException   if at least one document has a version attribute with a different
+     *                                             value from that found on server.
+     * @throws DataAccessException                 if batch operation failed (see
+     *                                             {@link DefaultAerospikeExceptionTranslator} for details).
+     */
+    <T> Flux<T> insertAll(Publisher<? extends T> documents, String setName);
+
     /**
      * Reactively persist a document using specified WritePolicy.
      *
@@ -353,6 +398,28 @@ public interface ReactiveAerospikeOperations {
      */
     <T> Flux<T> updateAll(Iterable<? extends T> documents, String setName);
 
+    /**
+     * Reactively update records of a stream of documents within the given set. The policies are analogous to
+     * {@link #update(Object)}.
+     * <p>
+     * Documents are written in batches of {@link AerospikeDataSettings#getBatchWriteSize()} as they arrive, up to
+     * {@link AerospikeDataSettings#getBatchWriteConcurrency()} batches are written concurrently. The order of returned
+     * results is preserved.
+     * <p>
+     * Requires Server version 6.0+.
+     *
+     * @param documents The documents that identify the records to be updated. Must not be {@literal null}.
+     * @param setName   The set name to update the documents.
+     * @return A Flux of the updated documents
+     * @throws AerospikeException.BatchRecordArray if a batch update succeeds, but results contain errors or null
+     *                                             records.
+     * @throws OptimisticLockingFailureException   if at least one document has a version attribute with a different
+     *                                             value from that found on server.
+     * @throws DataAccessException                 if batch operation failed (see
+     *                                             {@link DefaultAerospikeExceptionTranslator} for details).
+     */
+    <T> Flux<T> updateAll(Publisher<? extends T> documents, String setName);
+
     /**
      * Reactively truncate/delete all records from the set determined by the given entityClass.
      *
@@ -485,6 +552,23 @@ public interface ReactiveAerospikeOperations {
      */
     Mono<Void> deleteByIds(Iterable<?> ids, String setName);
 
+    /**
+     * Reactively delete records of a stream of ids within the given set. The policies are analogous to
+     * {@link #deleteById(Object, String)}.
+     * <p>
+     * Ids are deleted in batches of {@link AerospikeDataSettings#getBatchWriteSize()} as they arrive, up to
+     * {@link AerospikeDataSettings#getBatchWriteConcurrency()} batches are deleted concurrently.
+     * <p>
+     * This operation requires Server version 6.0+.
+     *
+     * @param ids     The ids of the documents to delete. Must not be {@literal null}.
+     * @param setName Set name to use.
+     * @throws AerospikeException.BatchRecordArray if batch delete results contain errors.
+     * @throws DataAccessException                 if batch operation failed (see
+     *                                             {@link DefaultAerospikeExceptionTranslator} for details).
+     */
+    Mono<Void> deleteByIds(Publisher<?> ids, String setName);
+
     /**
      * Reactively delete records from different sets in a single request.
      * <p>
@@ -867,6 +951,19 @@ public interface ReactiveAerospikeOperations {
      */
     <T> Flux<T> find(Query query, Class<T> targetClass, String setName);
 
+    /**
+     * Reactively find records in the given set using a query and return them without mapping to entities.
+     * <p>
+     * Intended for bulk reads that only need some bins of each record. The query's id qualifier is read by keys,
+     * distinct, offset and rows of the query are applied, sorting is not supported.
+     *
+     * @param query    The {@link Query} to filter results, {@literal null} to read all records of the set.
+     * @param setName  Set name to use. Must not be {@literal null}.
+     * @param binNames Names of the bins to read, all bins are read if none are given.
+     * @return A Flux of matching records.
+     */
+    Flux<KeyRecord> streamRecords(@Nullable Query query, String setName, String... binNames);
+
     /**
      * Reactively find all records in the given entityClass's set and map them to the given class type.
      *
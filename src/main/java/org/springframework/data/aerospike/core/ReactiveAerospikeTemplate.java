@@ -20,6 +20,7 @@ import com.aerospike.client.*;
 import com.aerospike.client.cdt.CTX;
 import com.aerospike.client.cluster.Node;
 import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.InfoPolicy;
 import com.aerospike.client.policy.Policy;
 import com.aerospike.client.policy.RecordExistsAction;
 import com.aerospike.client.policy.WritePolicy;
@@ -27,7 +28,11 @@ import com.aerospike.client.query.IndexCollectionType;
 import com.aerospike.client.query.IndexType;
 import com.aerospike.client.query.KeyRecord;
 import com.aerospike.client.reactor.IAerospikeReactorClient;
+import com.aerospike.client.reactor.dto.KeysRecords;
 import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.aerospike.config.AerospikeDataSettings;
 import org.springframework.data.aerospike.convert.AerospikeWriteData;
 import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
 import org.springframework.data.aerospike.core.model.GroupedEntities;
@@ -36,6 +41,7 @@ import org.springframework.data.aerospike.index.IndexesCacheRefresher;
 import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
 import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
 import org.springframework.data.aerospike.mapping.AerospikePersistentProperty;
+import org.springframework.data.aerospike.metrics.AerospikeMetrics;
 import org.springframework.data.aerospike.query.Qualifier;
 import org.springframework.data.aerospike.query.ReactorQueryEngine;
 import org.springframework.data.aerospike.query.cache.ReactorIndexRefresher;
@@ -43,15 +49,14 @@ import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.aerospike.server.version.ServerVersionSupport;
 import org.springframework.data.aerospike.utility.Utils;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.keyvalue.core.IterableConverter;
 import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Comparator;
@@ -63,7 +68,6 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import static com.aerospike.client.ResultCode.KEY_NOT_FOUND_ERROR;
 import static java.util.Objects.nonNull;
@@ -87,13 +91,14 @@ import static org.springframework.data.aerospike.query.QualifierUtils.queryCrite
  */
 @Slf4j
 public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements ReactiveAerospikeOperations,
-    IndexesCacheRefresher {
+    IndexesCacheRefresher, DisposableBean {
 
     private static final Pattern INDEX_EXISTS_REGEX_PATTERN = Pattern.compile("^FAIL:(-?\\d+).*$");
 
     private final IAerospikeReactorClient reactorClient;
     private final ReactorQueryEngine reactorQueryEngine;
     private final ReactorIndexRefresher reactorIndexRefresher;
+    private final RecordBatcher findByIdBatcher;
 
     public ReactiveAerospikeTemplate(IAerospikeReactorClient reactorClient,
                                      String namespace,
@@ -108,6 +113,19 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         this.reactorClient = reactorClient;
         this.reactorQueryEngine = queryEngine;
         this.reactorIndexRefresher = reactorIndexRefresher;
+        this.findByIdBatcher = createRecordBatcher(keys -> reactorClient.get(null, keys)
+            .map(keysRecords -> keysRecords.records)
+            .toFuture());
+    }
+
+    /**
+     * Send batched reads before the template is disposed.
+     */
+    @Override
+    public void destroy() {
+        if (findByIdBatcher != null) {
+            findByIdBatcher.close();
+        }
     }
 
     @Override
@@ -124,6 +142,11 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
     @Override
     public <T> Mono<T> save(T document, String setName) {
         Assert.notNull(document, "Document for saving must not be null!");
+
+        return timedMono("save", setName, () -> doSave(document, setName));
+    }
+
+    private <T> Mono<T> doSave(T document, String setName) {
         AerospikeWriteData data = writeData(document, setName);
         AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(document.getClass());
         if (entity.hasVersionProperty()) {
@@ -155,27 +178,44 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         Assert.notNull(setName, "Set name must not be null!");
         validateForBatchWrite(documents, "Documents for saving");
 
-        return applyBufferedBatchWrite(documents, setName, SAVE_OPERATION);
+        return applyBufferedBatchWrite(Flux.fromIterable(documents), setName, SAVE_OPERATION);
     }
 
-    private <T> Flux<T> applyBufferedBatchWrite(Iterable<? extends T> documents, String setName,
-                                                OperationType operationType) {
-        int batchSize = converter.getAerospikeDataSettings().getBatchWriteSize();
-        List<T> docsList = new ArrayList<>();
-        Flux<T> result = Flux.empty();
+    @Override
+    public <T> Flux<T> saveAll(Publisher<T> documents, String setName) {
+        Assert.notNull(setName, "Set name must not be null!");
+        validateForBatchWrite(documents, "Documents for saving");
 
-        for (T doc : documents) {
-            if (batchWriteSizeMatch(batchSize, docsList.size())) {
-                result = Flux.concat(result, batchWriteAllDocuments(docsList, setName, operationType));
-                docsList.clear();
-            }
-            docsList.add(doc);
-        }
-        if (!docsList.isEmpty()) {
-            result = Flux.concat(result, batchWriteAllDocuments(docsList, setName, operationType));
+        return applyBufferedBatchWrite(Flux.from(documents), setName, SAVE_OPERATION);
+    }
+
+    private <T> Flux<T> applyBufferedBatchWrite(Flux<T> documents, String setName, OperationType operationType) {
+        return timedFlux(operationType + "All", setName,
+            () -> doApplyBufferedBatchWrite(documents, setName, operationType));
+    }
+
+    private <T> Flux<T> doApplyBufferedBatchWrite(Flux<T> documents, String setName, OperationType operationType) {
+        return bufferByBatchWriteSize(documents)
+            .flatMapSequential(batch -> batchWriteAllDocuments(batch, setName, operationType),
+                getBatchWriteConcurrency());
+    }
+
+    /**
+     * Split elements into batches of {@link AerospikeDataSettings#getBatchWriteSize()}, non-positive size means a
+     * single batch.
+     */
+    private <E> Flux<List<E>> bufferByBatchWriteSize(Flux<E> elements) {
+        int batchSize = converter.getAerospikeDataSettings().getBatchWriteSize();
+        if (batchSize > 0) {
+            return elements.buffer(batchSize);
         }
+        return elements.collectList()
+            .filter(list -> !list.isEmpty())
+            .flux();
+    }
 
-        return result;
+    private int getBatchWriteConcurrency() {
+        return Math.max(converter.getAerospikeDataSettings().getBatchWriteConcurrency(), 1);
     }
 
     private <T> Flux<T> batchWriteAllDocuments(List<T> documents, String setName, OperationType operationType) {
@@ -191,6 +231,7 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
                 documents.forEach(document -> batchWriteDataList.add(getBatchWriteForDelete(document, setName)));
             default -> throw new IllegalArgumentException("Unexpected operation name: " + operationType);
         }
+        recordBatchSize(operationType + "All", setName, batchWriteDataList.size());
 
         List<BatchRecord> batchWriteRecords = batchWriteDataList.stream().map(BatchWriteData::batchRecord).toList();
 
@@ -253,6 +294,10 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         Assert.notNull(document, "Document must not be null!");
         Assert.notNull(setName, "Set name must not be null!");
 
+        return timedMono("insert", setName, () -> doInsert(document, setName));
+    }
+
+    private <T> Mono<T> doInsert(T document, String setName) {
         AerospikeWriteData data = writeData(document, setName);
         WritePolicy policy = ignoreGenerationPolicy(data, RecordExistsAction.CREATE_ONLY);
 
@@ -285,7 +330,15 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         Assert.notNull(setName, "Set name must not be null!");
         validateForBatchWrite(documents, "Documents for insert");
 
-        return applyBufferedBatchWrite(documents, setName, INSERT_OPERATION);
+        return applyBufferedBatchWrite(Flux.fromIterable(documents), setName, INSERT_OPERATION);
+    }
+
+    @Override
+    public <T> Flux<T> insertAll(Publisher<? extends T> documents, String setName) {
+        Assert.notNull(setName, "Set name must not be null!");
+        validateForBatchWrite(documents, "Documents for insert");
+
+        return applyBufferedBatchWrite(Flux.from(documents), setName, INSERT_OPERATION);
     }
 
     @Override
@@ -301,6 +354,10 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         Assert.notNull(policy, "Policy must not be null!");
         Assert.notNull(setName, "Set name must not be null!");
 
+        return timedMono("persist", setName, () -> doPersist(document, policy, setName));
+    }
+
+    private <T> Mono<T> doPersist(T document, WritePolicy policy, String setName) {
         AerospikeWriteData data = writeData(document, setName);
 
         Operation[] operations = operations(data.getBinsAsArray(), Operation::put);
@@ -317,6 +374,10 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         Assert.notNull(document, "Document must not be null!");
         Assert.notNull(setName, "Set name must not be null!");
 
+        return timedMono("update", setName, () -> doUpdate(document, setName));
+    }
+
+    private <T> Mono<T> doUpdate(T document, String setName) {
         AerospikeWriteData data = writeData(document, setName);
         AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(document.getClass());
         if (entity.hasVersionProperty()) {
@@ -347,6 +408,10 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         Assert.notNull(setName, "Set name must not be null!");
         Assert.notNull(fields, "Fields must not be null!");
 
+        return timedMono("update", setName, () -> doUpdate(document, setName, fields));
+    }
+
+    private <T> Mono<T> doUpdate(T document, String setName, Collection<String> fields) {
         AerospikeWriteData data = writeDataWithSpecificFields(document, setName, fields);
         AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(document.getClass());
         if (entity.hasVersionProperty()) {
@@ -375,7 +440,15 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         Assert.notNull(setName, "Set name must not be null!");
         validateForBatchWrite(documents, "Documents for update");
 
-        return applyBufferedBatchWrite(documents, setName, UPDATE_OPERATION);
+        return applyBufferedBatchWrite(Flux.fromIterable(documents), setName, UPDATE_OPERATION);
+    }
+
+    @Override
+    public <T> Flux<T> updateAll(Publisher<? extends T> documents, String setName) {
+        Assert.notNull(setName, "Set name must not be null!");
+        validateForBatchWrite(documents, "Documents for update");
+
+        return applyBufferedBatchWrite(Flux.from(documents), setName, UPDATE_OPERATION);
     }
 
     @Deprecated(since = "4.6.0", forRemoval = true)
@@ -416,6 +489,10 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         Assert.notNull(document, "Document must not be null!");
         Assert.notNull(document, "Set name must not be null!");
 
+        return timedMono("delete", setName, () -> doDelete(document, setName));
+    }
+
+    private <T> Mono<Boolean> doDelete(T document, String setName) {
         AerospikeWriteData data = writeData(document, setName);
         AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(document.getClass());
         if (entity.hasVersionProperty()) {
@@ -443,6 +520,10 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         Assert.notNull(id, "Id must not be null!");
         Assert.notNull(setName, "Set name must not be null!");
 
+        return timedMono("deleteById", setName, () -> doDeleteById(id, setName));
+    }
+
+    private Mono<Boolean> doDeleteById(Object id, String setName) {
         return reactorClient
             .delete(ignoreGenerationPolicy(), getKey(id, setName))
             .map(k -> true)
@@ -461,7 +542,7 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         Assert.notNull(setName, "Set name must not be null!");
         validateForBatchWrite(documents, "Documents for deleting");
 
-        return applyBufferedBatchWrite(documents, setName, DELETE_OPERATION).then();
+        return applyBufferedBatchWrite(Flux.fromIterable(documents), setName, DELETE_OPERATION).then();
     }
 
     @Override
@@ -477,21 +558,17 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         Assert.notNull(setName, "Set name must not be null!");
         validateForBatchWrite(ids, "IDs");
 
-        int batchSize = converter.getAerospikeDataSettings().getBatchWriteSize();
-        List<Object> idsList = new ArrayList<>();
-        Flux<Void> result = Flux.empty();
-        for (Object id : ids) {
-            if (batchWriteSizeMatch(batchSize, idsList.size())) {
-                result = deleteByIds(idsList, setName).concatWith(result);
-                idsList.clear();
-            }
-            idsList.add(id);
-        }
-        if (!idsList.isEmpty()) {
-            result = deleteByIds(idsList, setName).concatWith(result);
-        }
+        return deleteByIds(Flux.fromIterable(ids), setName);
+    }
+
+    @Override
+    public Mono<Void> deleteByIds(Publisher<?> ids, String setName) {
+        Assert.notNull(setName, "Set name must not be null!");
+        validateForBatchWrite(ids, "IDs");
 
-        return result.then();
+        return bufferByBatchWriteSize(Flux.<Object>from(ids))
+            .flatMapSequential(batch -> deleteByIds(batch, setName), getBatchWriteConcurrency())
+            .then();
     }
 
     private Mono<Void> deleteByIds(Collection<?> ids, String setName) {
@@ -715,6 +792,10 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
 
     @Override
     public <T> Mono<T> findById(Object id, Class<T> entityClass, String setName) {
+        return timedMono("findById", setName, () -> doFindById(id, entityClass, setName));
+    }
+
+    private <T> Mono<T> doFindById(Object id, Class<T> entityClass, String setName) {
         AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
         Key key = getKey(id, setName);
 
@@ -729,6 +810,10 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
                     th -> Mono.empty()
                 )
                 .onErrorMap(this::translateError);
+        } else if (findByIdBatcher != null) {
+            return Mono.fromFuture(() -> findByIdBatcher.get(key))
+                .map(aeroRecord -> mapToEntity(key, entityClass, aeroRecord))
+                .onErrorMap(this::translateError);
         } else {
             return reactorClient.get(key)
                 .filter(keyRecord -> Objects.nonNull(keyRecord.record))
@@ -744,6 +829,10 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
 
     @Override
     public <T, S> Mono<S> findById(Object id, Class<T> entityClass, Class<S> targetClass, String setName) {
+        return timedMono("findById", setName, () -> doFindById(id, entityClass, targetClass, setName));
+    }
+
+    private <T, S> Mono<S> doFindById(Object id, Class<T> entityClass, Class<S> targetClass, String setName) {
         AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
         Key key = getKey(id, setName);
 
@@ -786,38 +875,35 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         Assert.notNull(targetClass, "Class must not be null!");
         Assert.notNull(setName, "Set name must not be null!");
 
-        int batchSize = converter.getAerospikeDataSettings().getBatchWriteSize();
-        List<Object> idsList = new ArrayList<>();
-        Flux<T> result = Flux.empty();
-
-        for (Object id : ids) {
-            if (batchWriteSizeMatch(batchSize, idsList.size())) {
-                result = Flux.concat(result, findByIds(idsList, targetClass, setName));
-                idsList.clear();
-            }
-            idsList.add(id);
-        }
-        if (!idsList.isEmpty()) {
-            result = Flux.concat(result, findByIds(idsList, targetClass, setName));
-        }
+        return timedFlux("findByIds", setName, () -> doFindByIds(ids, targetClass, setName));
+    }
 
-        return result;
+    private <T> Flux<T> doFindByIds(Iterable<?> ids, Class<T> targetClass, String setName) {
+        return batchGet("findByIds", ids, setName, null, null)
+            .map(keyRecord -> mapToEntity(keyRecord.key, targetClass, keyRecord.record));
     }
 
-    private <T> Flux<T> findByIds(Collection<?> ids, Class<T> targetClass, String setName) {
-        Key[] keys = IterableConverter.toList(ids).stream()
+    /**
+     * Read records in batches of {@link AerospikeDataSettings#getBatchReadSize()} keys, sending up to
+     * {@link AerospikeDataSettings#getBatchReadConcurrency()} batches concurrently. Records are returned in the order
+     * of ids, missing and filtered out records are skipped.
+     */
+    private Flux<KeyRecord> batchGet(String operation, Iterable<?> ids, String setName, @Nullable String[] binNames,
+                                     @Nullable BatchPolicy policy) {
+        AerospikeDataSettings settings = converter.getAerospikeDataSettings();
+        return Flux.fromIterable(ids)
             .map(id -> getKey(id, setName))
-            .toArray(Key[]::new);
-
-        return reactorClient.get(null, keys)
-            .flatMap(kr -> Mono.just(kr.asMap()))
-            .flatMapMany(keyRecordMap -> {
-                List<T> entities = keyRecordMap.entrySet().stream()
-                    .filter(entry -> entry.getValue() != null)
-                    .map(entry -> mapToEntity(entry.getKey(), targetClass, entry.getValue()))
-                    .collect(Collectors.toList());
-                return Flux.fromIterable(entities);
-            });
+            .buffer(Math.max(settings.getBatchReadSize(), 1))
+            .flatMapSequential(keysList -> {
+                Key[] keys = keysList.toArray(Key[]::new);
+                recordBatchSize(operation, setName, keys.length);
+                Mono<KeysRecords> batch = binNames != null ? reactorClient.get(policy, keys, binNames)
+                    : reactorClient.get(policy, keys);
+                return batch.flatMapMany(keysRecords -> Flux.range(0, keysRecords.keys.length)
+                    .map(i -> new KeyRecord(keysRecords.keys[i], keysRecords.records[i])));
+            }, Math.max(settings.getBatchReadConcurrency(), 1))
+            .filter(keyRecord -> nonNull(keyRecord.record))
+            .onErrorMap(this::translateError);
     }
 
     @Override
@@ -848,6 +934,11 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
     @Override
     public <T, S> Mono<?> findByIdUsingQuery(Object id, Class<T> entityClass, Class<S> targetClass, String setName,
                                              Query query) {
+        return timedMono("findById", setName, () -> doFindByIdUsingQuery(id, entityClass, targetClass, setName, query));
+    }
+
+    private <T, S> Mono<?> doFindByIdUsingQuery(Object id, Class<T> entityClass, Class<S> targetClass,
+                                               String setName, Query query) {
         AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
         Key key = getKey(id, setName);
 
@@ -910,10 +1001,8 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
             target = entityClass;
         }
 
-        return Flux.fromIterable(ids)
-            .map(id -> getKey(id, setName))
-            .flatMap(key -> getFromClient(policy, key, targetClass))
-            .filter(keyRecord -> nonNull(keyRecord.record))
+        String[] binNames = targetClass != null ? getBinNamesFromTargetClass(targetClass) : null;
+        return batchGet("findByIds", ids, setName, binNames, policy)
             .map(keyRecord -> mapToEntity(keyRecord.key, target, keyRecord.record));
     }
 
@@ -1016,15 +1105,6 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         return null;
     }
 
-    private Mono<KeyRecord> getFromClient(BatchPolicy finalPolicy, Key key, Class<?> targetClass) {
-        if (targetClass != null) {
-            String[] binNames = getBinNamesFromTargetClass(targetClass);
-            return reactorClient.get(finalPolicy, key, binNames);
-        } else {
-            return reactorClient.get(finalPolicy, key);
-        }
-    }
-
     @Override
     public <T> Mono<Boolean> exists(Object id, Class<T> entityClass) {
         Assert.notNull(id, "Id must not be null!");
@@ -1037,6 +1117,10 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         Assert.notNull(id, "Id must not be null!");
         Assert.notNull(setName, "Set name must not be null!");
 
+        return timedMono("exists", setName, () -> doExists(id, setName));
+    }
+
+    private Mono<Boolean> doExists(Object id, String setName) {
         Key key = getKey(id, setName);
         return reactorClient.exists(key)
             .map(Objects::nonNull)
@@ -1056,6 +1140,11 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         Assert.notNull(query, "Query passed in to exist can't be null");
         Assert.notNull(entityClass, "Class must not be null!");
         Assert.notNull(setName, "Set name must not be null!");
+
+        return timedMono("existsByQuery", setName, () -> doExistsByQuery(query, entityClass, setName));
+    }
+
+    private <T> Mono<Boolean> doExistsByQuery(Query query, Class<T> entityClass, String setName) {
         return find(query, entityClass, setName).hasElements();
     }
 
@@ -1070,23 +1159,32 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
     public Mono<Long> count(String setName) {
         Assert.notNull(setName, "Set name must not be null!");
 
-        try {
-            return Mono.fromCallable(() -> countSet(setName));
-        } catch (AerospikeException e) {
-            throw translateError(e);
-        }
+        return Mono.defer(() -> countSet(setName))
+            .onErrorMap(this::translateError);
     }
 
-    private long countSet(String setName) {
+    private Mono<Long> countSet(String setName) {
         Node[] nodes = reactorClient.getAerospikeClient().getNodes();
-
-        int replicationFactor = Utils.getReplicationFactor(nodes, namespace);
-
-        long totalObjects = Arrays.stream(nodes)
-            .mapToLong(node -> Utils.getObjectsCount(node, namespace, setName))
-            .sum();
-
-        return (nodes.length > 1) ? (totalObjects / replicationFactor) : totalObjects;
+        if (nodes.length == 0) {
+            return Mono.error(new AerospikeException(ResultCode.SERVER_NOT_AVAILABLE,
+                "Command failed because cluster is empty."));
+        }
+        String configCommand = "get-config:context=namespace;id=" + namespace;
+        String setsCommand = "sets/" + namespace + "/" + setName;
+
+        InfoPolicy infoPolicy = reactorClient.getInfoPolicyDefault();
+        // the configuration is requested from a random node, objects counts from all nodes concurrently
+        Mono<Integer> replicationFactor = reactorClient.info(infoPolicy, null, configCommand)
+            .map(response -> Utils.getReplicationFactor(response, namespace));
+        Mono<Long> totalObjects = Flux.fromArray(nodes)
+            .flatMap(node -> reactorClient.info(infoPolicy, node, setsCommand))
+            .map(Utils::getObjectsCount)
+            .reduce(0L, Long::sum);
+
+        if (nodes.length == 1) {
+            return totalObjects;
+        }
+        return Mono.zip(totalObjects, replicationFactor, (objects, factor) -> objects / factor);
     }
 
     @Override
@@ -1100,6 +1198,10 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
     public Mono<Long> count(Query query, String setName) {
         Assert.notNull(setName, "Set for count must not be null!");
 
+        return timedMono("count", setName, () -> doCount(query, setName));
+    }
+
+    private Mono<Long> doCount(Query query, String setName) {
         return countRecordsUsingQuery(setName, query).count();
     }
 
@@ -1186,17 +1288,16 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
     public Mono<Boolean> indexExists(String indexName) {
         Assert.notNull(indexName, "Index name must not be null!");
 
-        try {
-            Node[] nodes = reactorClient.getAerospikeClient().getNodes();
-            for (Node node : nodes) {
-                String response = Info.request(reactorClient.getAerospikeClient().getInfoPolicyDefault(),
-                    node, "sindex-exists:ns=" + namespace + ";indexname=" + indexName);
-                if (response == null) throw new AerospikeException("Null node response");
-
+        String command = "sindex-exists:ns=" + namespace + ";indexname=" + indexName;
+        // nodes are requested concurrently, responses are evaluated in the order of nodes
+        return Flux.defer(() -> Flux.fromArray(reactorClient.getAerospikeClient().getNodes()))
+            .flatMapSequential(node -> reactorClient.info(reactorClient.getInfoPolicyDefault(), node, command)
+                .switchIfEmpty(Mono.error(() -> new AerospikeException("Null node response"))))
+            .<Boolean>handle((response, sink) -> {
                 if (response.equalsIgnoreCase("true")) {
-                    return Mono.just(true);
+                    sink.next(true);
                 } else if (response.equalsIgnoreCase("false")) {
-                    return Mono.just(false);
+                    sink.next(false);
                 } else {
                     Matcher matcher = INDEX_EXISTS_REGEX_PATTERN.matcher(response);
                     if (matcher.matches()) {
@@ -1204,24 +1305,24 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
                         try {
                             reason = Integer.parseInt(matcher.group(1));
                         } catch (NumberFormatException e) {
-                            throw new AerospikeException("Unexpected node response, unable to parse ResultCode: " +
-                                response);
+                            sink.error(new AerospikeException("Unexpected node response, unable to parse " +
+                                "ResultCode: " + response));
+                            return;
                         }
 
                         // as for Server ver. >= 6.1.0.1 the response containing ResultCode.INVALID_NAMESPACE
                         // means that the request should be sent to another node
                         if (reason != ResultCode.INVALID_NAMESPACE) {
-                            throw new AerospikeException(reason);
+                            sink.error(new AerospikeException(reason));
                         }
                     } else {
-                        throw new AerospikeException("Unexpected node response: " + response);
+                        sink.error(new AerospikeException("Unexpected node response: " + response));
                     }
                 }
-            }
-        } catch (AerospikeException e) {
-            throw translateError(e);
-        }
-        return Mono.just(false);
+            })
+            .next()
+            .defaultIfEmpty(false)
+            .onErrorMap(this::translateError);
     }
 
     @Override
@@ -1371,6 +1472,20 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         return results;
     }
 
+    @Override
+    public Flux<KeyRecord> streamRecords(Query query, String setName, String... binNames) {
+        Assert.notNull(setName, "Set name must not be null!");
+        Assert.notNull(binNames, "Bin names must not be null!");
+        Assert.isTrue(query == null || query.getSort() == null || query.getSort().isUnsorted(),
+            "Sorting is not supported for raw records");
+
+        Flux<KeyRecord> records = findRecordsUsingQuery(setName, binNames.length == 0 ? null : binNames, query);
+        if (query == null) {
+            return records;
+        }
+        return applyPostProcessingOnResults(records.filter(getDistinctPredicate(query)), query);
+    }
+
     private <T> Flux<T> find(String setName, Class<T> targetClass) {
         return findRecordsUsingQuery(setName, targetClass, null)
             .map(keyRecord -> mapToEntity(keyRecord, targetClass));
@@ -1384,25 +1499,62 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
     }
 
     private <T> Flux<KeyRecord> findRecordsUsingQuery(String setName, Class<T> targetClass, Query query) {
+        String[] binNames = targetClass != null ? getBinNamesFromTargetClass(targetClass) : null;
+        return findRecordsUsingQuery(setName, binNames, query);
+    }
+
+    private Flux<KeyRecord> findRecordsUsingQuery(String setName, String[] binNames, Query query) {
         Qualifier qualifier = queryCriteriaIsNotNull(query) ? query.getCriteriaObject() : null;
         if (qualifier != null) {
             Qualifier idQualifier = getIdQualifier(qualifier);
             if (idQualifier != null) {
                 // a separate flow for a query with id
-                return findByIdsWithoutMapping(getIdValue(idQualifier), setName, targetClass,
+                return findByIdsWithoutMapping(getIdValue(idQualifier), setName, binNames,
                     new Query(excludeIdQualifier(qualifier)));
             }
         }
 
-        if (targetClass != null) {
-            String[] binNames = getBinNamesFromTargetClass(targetClass);
+        if (!metrics.isEnabled()) {
             return reactorQueryEngine.select(namespace, setName, binNames, query);
         }
-        return reactorQueryEngine.select(namespace, setName, null, query);
+        return Flux.defer(() -> {
+            QueryMeasurement measurement = startQueryMeasurement("find", setName);
+            return reactorQueryEngine.select(namespace, setName, binNames, query)
+                .doOnNext(keyRecord -> measurement.onRecord())
+                .doOnError(measurement::finish)
+                .doOnComplete(() -> measurement.finish(null))
+                .doOnCancel(() -> measurement.finish(null));
+        });
+    }
+
+    private <T> Mono<T> timedMono(String operation, String setName, Supplier<Mono<T>> action) {
+        AerospikeMetrics metrics = this.metrics;
+        if (!metrics.isEnabled()) {
+            return action.get();
+        }
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return action.get()
+                .doOnSuccess(result -> metrics.recordOperation(operation, setName, System.nanoTime() - start, null))
+                .doOnError(e -> metrics.recordOperation(operation, setName, System.nanoTime() - start, e));
+        });
+    }
+
+    private <T> Flux<T> timedFlux(String operation, String setName, Supplier<Flux<T>> action) {
+        AerospikeMetrics metrics = this.metrics;
+        if (!metrics.isEnabled()) {
+            return action.get();
+        }
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            return action.get()
+                .doOnComplete(() -> metrics.recordOperation(operation, setName, System.nanoTime() - start, null))
+                .doOnError(e -> metrics.recordOperation(operation, setName, System.nanoTime() - start, e));
+        });
     }
 
-    private <T> Flux<KeyRecord> findByIdsWithoutMapping(Collection<?> ids, String setName,
-                                                        Class<T> targetClass, Query query) {
+    private Flux<KeyRecord> findByIdsWithoutMapping(Collection<?> ids, String setName,
+                                                    String[] binNames, Query query) {
         Assert.notNull(ids, "List of ids must not be null!");
         Assert.notNull(setName, "Set name must not be null!");
 
@@ -1412,9 +1564,6 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
 
         BatchPolicy policy = getBatchPolicyFilterExp(query);
 
-        return Flux.fromIterable(ids)
-            .map(id -> getKey(id, setName))
-            .flatMap(key -> getFromClient(policy, key, targetClass))
-            .filter(keyRecord -> nonNull(keyRecord.record));
+        return batchGet("batchRead", ids, setName, binNames, policy);
     }
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Combines single record reads into batch reads.
+ * <p>
+ * The first read starts a batch that collects further reads for the given window, or until it contains the maximum
+ * number of keys. Then all keys of the batch are read at once. Reads of the same key within a batch share a single
+ * result.
+ * <p>
+ * Batches are sent by the scheduler thread when the window has passed, or by the thread adding the last key of a full
+ * batch. The batch reader must not block, otherwise batches whose window has passed wait for earlier ones to be read.
+ */
+class RecordBatcher implements AutoCloseable {
+
+    private final long windowNanos;
+    private final int maxKeys;
+    private final ScheduledExecutorService scheduler;
+    private final Function<Key[], CompletableFuture<Record[]>> batchReader;
+    // guarded by this
+    private Batch openBatch;
+    private boolean closed;
+
+    /**
+     * @param windowNanos Maximum time a read waits for further reads to be batched with
+     * @param maxKeys     Maximum number of distinct keys in a batch
+     * @param scheduler   Scheduler sending batches after the window has passed, shut down by {@link #close()}
+     * @param batchReader Function reading records of the given keys, records of not found keys are {@literal null}
+     */
+    RecordBatcher(long windowNanos, int maxKeys, ScheduledExecutorService scheduler,
+                  Function<Key[], CompletableFuture<Record[]>> batchReader) {
+        this.windowNanos = windowNanos;
+        this.maxKeys = Math.max(maxKeys, 1);
+        this.scheduler = scheduler;
+        this.batchReader = batchReader;
+    }
+
+    /**
+     * @return Future completed with the record of the given key or with {@literal null} if it is not found
+     */
+    CompletableFuture<Record> get(Key key) {
+        Batch batch;
+        CompletableFuture<Record> result;
+        boolean full;
+        boolean started = false;
+        synchronized (this) {
+            if (openBatch == null) {
+                openBatch = new Batch();
+                started = true;
+            }
+            batch = openBatch;
+            result = batch.futures.computeIfAbsent(key, k -> new CompletableFuture<>());
+            // once closed, every read is sent on its own
+            full = closed || batch.futures.size() >= maxKeys;
+            if (full) {
+                openBatch = null;
+            }
+        }
+
+        if (full) {
+            send(batch);
+        } else if (started) {
+            try {
+                scheduler.schedule(() -> sendIfOpen(batch), windowNanos, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                sendIfOpen(batch); // closed meanwhile
+            }
+        }
+        return result;
+    }
+
+    private void sendIfOpen(Batch batch) {
+        synchronized (this) {
+            if (openBatch != batch) {
+                return; // already sent when it got full
+            }
+            openBatch = null;
+        }
+        send(batch);
+    }
+
+    /**
+     * Send the open batch and shut down the scheduler, further reads are sent without batching.
+     */
+    @Override
+    public void close() {
+        Batch batch;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            batch = openBatch;
+            openBatch = null;
+        }
+        scheduler.shutdownNow();
+        if (batch != null) {
+            send(batch);
+        }
+    }
+
+    private void send(Batch batch) {
+        Key[] keys = batch.futures.keySet().toArray(Key[]::new);
+        List<CompletableFuture<Record>> futures = new ArrayList<>(batch.futures.values());
+        CompletableFuture<Record[]> records;
+        try {
+            records = batchReader.apply(keys);
+        } catch (RuntimeException e) {
+            records = CompletableFuture.failedFuture(e);
+        }
+        records.whenComplete((result, throwable) -> {
+            for (int i = 0; i < futures.size(); i++) {
+                if (throwable != null) {
+                    futures.get(i).completeExceptionally(throwable);
+                } else {
+                    futures.get(i).complete(result[i]);
+                }
+            }
+        });
+    }
+
+    private static class Batch {
+
+        // guarded by the batcher until the batch is sent
+        private final Map<Key, CompletableFuture<Record>> futures = new LinkedHashMap<>();
+    }
+}
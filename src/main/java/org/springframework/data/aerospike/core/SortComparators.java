@@ -0,0 +1,201 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.aerospike.mapping.AerospikePersistentProperty;
+import org.springframework.data.aerospike.mapping.BasicAerospikePersistentEntity;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.mapping.context.MappingContext;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Creates comparators for sorting query results according to a {@link Sort}.
+ * <p>
+ * Property values are read using the persistent entity metadata of the compared objects, so property accessors are
+ * resolved once per (class, property path) instead of reflectively on every comparison. Comparators are cached per
+ * {@link Sort}. Nested property paths are supported, a {@literal null} intermediate value means a {@literal null}
+ * property value. Properties that can not be resolved from the mapping metadata (e.g. of a projection that is not a
+ * mappable type) are read using a {@link BeanWrapperImpl}.
+ * <p>
+ * {@link Sort.NullHandling} of each order is applied, {@link Sort.NullHandling#NATIVE} puts {@literal null} values last
+ * in ascending order and first in descending order. String values are compared ignoring case if
+ * {@link Sort.Order#isIgnoreCase()} is set. Values that are not {@link Comparable} with each other are considered
+ * equal.
+ */
+public class SortComparators {
+
+    private static final int MAX_CACHE_SIZE = 1024;
+
+    private final MappingContext<BasicAerospikePersistentEntity<?>, AerospikePersistentProperty> mappingContext;
+    private final Map<Sort, Comparator<?>> comparators = new ConcurrentHashMap<>();
+    private final Map<PropertyKey, Function<Object, Object>> propertyReaders = new ConcurrentHashMap<>();
+
+    public SortComparators(MappingContext<BasicAerospikePersistentEntity<?>, AerospikePersistentProperty>
+                               mappingContext) {
+        this.mappingContext = mappingContext;
+    }
+
+    /**
+     * Get comparator for the given sort.
+     *
+     * @param sort Sort to create comparator for. Must be sorted.
+     * @return Comparator that compares objects according to the given sort
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Comparator<T> getComparator(Sort sort) {
+        Comparator<?> comparator = comparators.get(sort);
+        if (comparator == null) {
+            comparator = createComparator(sort);
+            if (comparators.size() < MAX_CACHE_SIZE) {
+                comparators.putIfAbsent(sort, comparator);
+            }
+        }
+        return (Comparator<T>) comparator;
+    }
+
+    private Comparator<Object> createComparator(Sort sort) {
+        return sort.stream()
+            .<Comparator<Object>>map(OrderComparator::new)
+            .reduce(Comparator::thenComparing)
+            .orElseThrow(() -> new IllegalStateException("Comparator can not be created if sort orders are empty"));
+    }
+
+    private Function<Object, Object> getPropertyReader(Class<?> type, String propertyPath) {
+        PropertyKey key = new PropertyKey(type, propertyPath);
+        Function<Object, Object> propertyReader = propertyReaders.get(key);
+        if (propertyReader == null) {
+            propertyReader = createPropertyReader(type, propertyPath);
+            if (propertyReaders.size() < MAX_CACHE_SIZE) {
+                propertyReaders.putIfAbsent(key, propertyReader);
+            }
+        }
+        return propertyReader;
+    }
+
+    private Function<Object, Object> createPropertyReader(Class<?> type, String propertyPath) {
+        List<AerospikePersistentProperty> properties = new ArrayList<>();
+        try {
+            PersistentPropertyPath<AerospikePersistentProperty> path =
+                mappingContext.getPersistentPropertyPath(propertyPath, type);
+            path.forEach(properties::add);
+        } catch (RuntimeException e) {
+            return source -> getBeanPropertyValue(source, propertyPath);
+        }
+
+        return source -> {
+            Object value = source;
+            for (AerospikePersistentProperty property : properties) {
+                if (value == null) {
+                    return null;
+                }
+                value = property.getOwner().getPropertyAccessor(value).getProperty(property);
+            }
+            return value;
+        };
+    }
+
+    private static Object getBeanPropertyValue(Object source, String propertyPath) {
+        try {
+            return new BeanWrapperImpl(source).getPropertyValue(propertyPath);
+        } catch (BeansException e) {
+            return null;
+        }
+    }
+
+    private record PropertyKey(Class<?> type, String propertyPath) {
+
+    }
+
+    private class OrderComparator implements Comparator<Object> {
+
+        private final String propertyPath;
+        private final boolean ascending;
+        private final Sort.NullHandling nullHandling;
+        private final boolean ignoreCase;
+        private volatile ResolvedReader lastReader;
+
+        OrderComparator(Sort.Order order) {
+            this.propertyPath = order.getProperty();
+            this.ascending = order.isAscending();
+            this.nullHandling = order.getNullHandling();
+            this.ignoreCase = order.isIgnoreCase();
+        }
+
+        @Override
+        public int compare(Object first, Object second) {
+            Object firstValue = getValue(first);
+            Object secondValue = getValue(second);
+            if (firstValue == null || secondValue == null) {
+                return compareNulls(firstValue, secondValue);
+            }
+            int result = compareValues(firstValue, secondValue);
+            return ascending ? result : -result;
+        }
+
+        private Object getValue(Object source) {
+            if (source == null) {
+                return null;
+            }
+            ResolvedReader reader = lastReader;
+            if (reader == null || reader.type() != source.getClass()) {
+                reader = new ResolvedReader(source.getClass(), getPropertyReader(source.getClass(), propertyPath));
+                lastReader = reader;
+            }
+            return reader.reader().apply(source);
+        }
+
+        private int compareNulls(Object firstValue, Object secondValue) {
+            if (firstValue == secondValue) {
+                return 0;
+            }
+            int nullFirst = firstValue == null ? -1 : 1;
+            return switch (nullHandling) {
+                case NULLS_FIRST -> nullFirst;
+                case NULLS_LAST -> -nullFirst;
+                default -> ascending ? -nullFirst : nullFirst;
+            };
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private int compareValues(Object firstValue, Object secondValue) {
+            if (ignoreCase && firstValue instanceof String firstString && secondValue instanceof String secondString) {
+                return firstString.compareToIgnoreCase(secondString);
+            }
+            if (!(firstValue instanceof Comparable comparable)) {
+                return 0;
+            }
+            try {
+                return comparable.compareTo(secondValue);
+            } catch (RuntimeException e) {
+                // e.g. values of different types
+                return 0;
+            }
+        }
+    }
+
+    private record ResolvedReader(Class<?> type, Function<Object, Object> reader) {
+
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchRecord;
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Key;
+import com.aerospike.client.ResultCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Buffers batch writes and writes them periodically, keeping only the last write of each key.
+ * <p>
+ * Buffered writes are written in the order of their keys' first write since the previous flush, writes of the same key
+ * never overlap, so a later write of a key can not be overtaken by an earlier one. When the buffer is full, the writing
+ * thread flushes it before adding its record. Other writes and deletes of a buffered key through the template have to
+ * call {@link #write(Collection)} or {@link #discard(Collection)} first to keep the order of writes, these only wait
+ * for a flush in progress when it writes one of their keys.
+ */
+@Slf4j
+class WriteBehindBuffer implements AutoCloseable {
+
+    private final IAerospikeClient client;
+    private final long flushIntervalMillis;
+    private final int maxPending;
+    private final int batchSize;
+    private final Consumer<Collection<Key>> writtenKeysConsumer;
+    @Getter
+    private final WriteBehindMetrics metrics;
+    private Map<Key, BatchRecord> pending = new LinkedHashMap<>();
+    // keys of records being written, guarded by this
+    private final Set<Key> inFlight = new HashSet<>();
+    private ScheduledExecutorService scheduler;
+    // set once the first record is buffered, so that the template does not synchronize on writes before that
+    private volatile boolean active;
+
+    /**
+     * @param client              Client to write with
+     * @param flushIntervalMillis Interval of periodic flushes
+     * @param maxPending          Maximum number of buffered keys
+     * @param batchSize           Maximum number of records in a single batch write
+     * @param writtenKeysConsumer Called with the keys of each written batch
+     */
+    WriteBehindBuffer(IAerospikeClient client, long flushIntervalMillis, int maxPending, int batchSize,
+                      Consumer<Collection<Key>> writtenKeysConsumer) {
+        this.client = client;
+        this.flushIntervalMillis = Math.max(flushIntervalMillis, 1);
+        this.maxPending = Math.max(maxPending, 1);
+        this.batchSize = batchSize > 0 ? batchSize : Integer.MAX_VALUE;
+        this.writtenKeysConsumer = writtenKeysConsumer;
+        this.metrics = new WriteBehindMetrics(this::getPendingCount);
+    }
+
+    void add(BatchRecord batchRecord) {
+        while (true) {
+            synchronized (this) {
+                startScheduler();
+                if (pending.size() < maxPending || pending.containsKey(batchRecord.key)) {
+                    metrics.onSaved(pending.put(batchRecord.key, batchRecord) != null);
+                    return;
+                }
+            }
+            metrics.onBackpressureFlush();
+            flush();
+        }
+    }
+
+    /**
+     * Write all buffered records.
+     */
+    void flush() {
+        List<BatchRecord> records;
+        synchronized (this) {
+            awaitNotInFlight(key -> pending.containsKey(key));
+            if (pending.isEmpty()) {
+                return;
+            }
+            records = new ArrayList<>(pending.values());
+            pending = new LinkedHashMap<>();
+            markInFlight(records);
+        }
+        writeInFlight(records);
+    }
+
+    /**
+     * Write buffered records of the given keys.
+     */
+    void write(Collection<Key> keys) {
+        if (!active) {
+            return;
+        }
+        List<BatchRecord> records = new ArrayList<>();
+        synchronized (this) {
+            awaitNotInFlight(keys::contains);
+            for (Key key : keys) {
+                BatchRecord batchRecord = pending.remove(key);
+                if (batchRecord != null) {
+                    records.add(batchRecord);
+                }
+            }
+            if (records.isEmpty()) {
+                return;
+            }
+            markInFlight(records);
+        }
+        writeInFlight(records);
+    }
+
+    /**
+     * Remove buffered records of the given keys without writing them.
+     */
+    void discard(Collection<Key> keys) {
+        if (!active) {
+            return;
+        }
+        synchronized (this) {
+            awaitNotInFlight(keys::contains);
+            keys.forEach(pending::remove);
+        }
+    }
+
+    /**
+     * Remove buffered records of the given set without writing them.
+     */
+    void discardSet(String setName) {
+        if (!active) {
+            return;
+        }
+        synchronized (this) {
+            awaitNotInFlight(key -> setName.equals(key.setName));
+            pending.keySet().removeIf(key -> setName.equals(key.setName));
+        }
+    }
+
+    /**
+     * Write all buffered records and stop periodic flushes.
+     */
+    @Override
+    public void close() {
+        ScheduledExecutorService scheduler;
+        synchronized (this) {
+            scheduler = this.scheduler;
+            this.scheduler = null;
+        }
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+        flush();
+    }
+
+    private synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    private void startScheduler() {
+        if (scheduler == null) {
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("aerospike-write-behind-");
+            threadFactory.setDaemon(true);
+            scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+            scheduler.scheduleWithFixedDelay(this::flushAndLogErrors, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+            active = true;
+        }
+    }
+
+    /**
+     * Wait until no record matching the given predicate is being written, must be called holding the monitor of this.
+     */
+    private void awaitNotInFlight(Predicate<Key> predicate) {
+        boolean interrupted = false;
+        while (!inFlight.isEmpty() && inFlight.stream().anyMatch(predicate)) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                // the order of writes has to be kept, wait for the flush anyway
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void markInFlight(List<BatchRecord> records) {
+        records.forEach(batchRecord -> inFlight.add(batchRecord.key));
+    }
+
+    private void writeInFlight(List<BatchRecord> records) {
+        try {
+            writeRecords(records);
+        } finally {
+            synchronized (this) {
+                records.forEach(batchRecord -> inFlight.remove(batchRecord.key));
+                notifyAll();
+            }
+        }
+    }
+
+    private void flushAndLogErrors() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Failed to flush buffered writes", e);
+        }
+    }
+
+    private void writeRecords(List<BatchRecord> records) {
+        for (int start = 0; start < records.size(); start += batchSize) {
+            List<BatchRecord> batch = records.subList(start, Math.min(start + batchSize, records.size()));
+            try {
+                // requires server ver. >= 6.0.0
+                client.operate(null, batch);
+            } catch (AerospikeException e) {
+                log.error("Failed to write a batch of {} buffered records", batch.size(), e);
+            } finally {
+                int failed = (int) batch.stream()
+                    .filter(batchRecord -> batchRecord.resultCode != ResultCode.OK)
+                    .count();
+                metrics.onBatchWritten(batch.size() - failed, failed);
+                writtenKeysConsumer.accept(batch.stream().map(batchRecord -> batchRecord.key).toList());
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Counters of buffered saves of documents annotated with
+ * {@link org.springframework.data.aerospike.annotation.WriteBehind}.
+ */
+public class WriteBehindMetrics {
+
+    private final LongAdder saved = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder backpressureFlushes = new LongAdder();
+    private final IntSupplier pending;
+
+    WriteBehindMetrics(IntSupplier pending) {
+        this.pending = pending;
+    }
+
+    /**
+     * @return Number of buffered saves
+     */
+    public long getSaved() {
+        return saved.sum();
+    }
+
+    /**
+     * @return Number of buffered saves replaced by a later save of the same key before being written
+     */
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    /**
+     * @return Number of records written successfully
+     */
+    public long getWritten() {
+        return written.sum();
+    }
+
+    /**
+     * @return Number of records that failed to be written
+     */
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    /**
+     * @return Number of batch writes sent
+     */
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    /**
+     * @return Number of times a save had to write the buffer because it was full
+     */
+    public long getBackpressureFlushes() {
+        return backpressureFlushes.sum();
+    }
+
+    /**
+     * @return Number of records currently waiting to be written
+     */
+    public int getPending() {
+        return pending.getAsInt();
+    }
+
+    void onSaved(boolean coalesced) {
+        saved.increment();
+        if (coalesced) {
+            this.coalesced.increment();
+        }
+    }
+
+    void onBatchWritten(int written, int failed) {
+        batches.increment();
+        this.written.add(written);
+        this.failed.add(failed);
+    }
+
+    void onBackpressureFlush() {
+        backpressureFlushes.increment();
+    }
+}
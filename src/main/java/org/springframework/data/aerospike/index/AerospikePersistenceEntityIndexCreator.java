@@ -17,11 +17,13 @@ package org.springframework.data.aerospike.index;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.aerospike.core.AerospikeExecutors;
 import org.springframework.data.aerospike.core.AerospikeTemplate;
 import org.springframework.data.aerospike.exceptions.IndexAlreadyExistsException;
 import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
 
 import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * @author Taras Danylchuk
@@ -41,7 +43,18 @@ public class AerospikePersistenceEntityIndexCreator extends BaseAerospikePersist
 
     @Override
     protected void installIndexes(Set<AerospikeIndexDefinition> indexes) {
-        indexes.forEach(this::installIndex);
+        AerospikeTemplate aerospikeTemplate = template.getIfUnique();
+        if (aerospikeTemplate == null) {
+            indexes.forEach(this::installIndex);
+            return;
+        }
+        // indexes are independent, so they are created and awaited concurrently
+        AerospikeExecutors.invokeAll(aerospikeTemplate.getExecutor(), indexes.stream()
+            .map(index -> (Supplier<Void>) () -> {
+                installIndex(index);
+                return null;
+            })
+            .toList());
     }
 
     private void installIndex(AerospikeIndexDefinition index) {
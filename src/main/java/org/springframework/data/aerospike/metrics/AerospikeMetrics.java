@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.metrics;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Receives measurements of Aerospike template operations.
+ * <p>
+ * All methods do nothing by default. Templates take measurements only if {@link #isEnabled()} returns {@literal true},
+ * so disabled metrics cost a single check per operation.
+ *
+ * @see MicrometerAerospikeMetrics
+ */
+public interface AerospikeMetrics {
+
+    /**
+     * Metrics that are disabled.
+     */
+    AerospikeMetrics NOOP = new AerospikeMetrics() {
+    };
+
+    /**
+     * @return Whether templates should take measurements
+     */
+    default boolean isEnabled() {
+        return false;
+    }
+
+    /**
+     * Record a completed template operation.
+     *
+     * @param operation     Name of the operation, e.g. "save" or "findById"
+     * @param setName       Set the operation was applied to
+     * @param durationNanos Duration of the operation including conversion of documents
+     * @param error         Error the operation failed with, {@literal null} if it succeeded
+     */
+    default void recordOperation(String operation, String setName, long durationNanos, @Nullable Throwable error) {
+    }
+
+    /**
+     * Record the size of a batch sent to the server.
+     *
+     * @param operation Name of the operation, e.g. "save" or "findByIds"
+     * @param setName   Set the batch was applied to
+     * @param size      Number of records in the batch
+     */
+    default void recordBatchSize(String operation, String setName, int size) {
+    }
+
+    /**
+     * Record the number of records returned by a query. Recorded when all results are consumed or when the results
+     * are closed.
+     *
+     * @param setName Set the query was applied to
+     * @param records Number of records returned
+     */
+    default void recordQueryResults(String setName, long records) {
+    }
+
+    /**
+     * Record conversion of a single document.
+     *
+     * @param direction     Direction of the conversion
+     * @param type          Type of the document
+     * @param durationNanos Duration of the conversion
+     */
+    default void recordConversion(ConversionDirection direction, Class<?> type, long durationNanos) {
+    }
+
+    enum ConversionDirection {
+        /**
+         * Reading a record into a document.
+         */
+        READ,
+        /**
+         * Writing a document into bins.
+         */
+        WRITE
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.util.Assert;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AerospikeMetrics} registering meters in a Micrometer {@link MeterRegistry}.
+ * <p>
+ * Registered meters:
+ * <ul>
+ *     <li>{@value #OPERATION_TIMER} timer, tagged by operation, set and outcome ("success" or the error class)</li>
+ *     <li>{@value #BATCH_SIZE} distribution summary, tagged by operation and set</li>
+ *     <li>{@value #QUERY_RECORDS} distribution summary, tagged by set</li>
+ *     <li>{@value #CONVERSION_TIMER} timer, tagged by direction and type</li>
+ * </ul>
+ * Meters are looked up once per tag combination and cached afterwards.
+ */
+public class MicrometerAerospikeMetrics implements AerospikeMetrics {
+
+    public static final String OPERATION_TIMER = "aerospike.template.operation";
+    public static final String BATCH_SIZE = "aerospike.template.batch.size";
+    public static final String QUERY_RECORDS = "aerospike.template.query.records";
+    public static final String CONVERSION_TIMER = "aerospike.template.conversion";
+    private static final String SUCCESS = "success";
+
+    private final MeterRegistry registry;
+    private final Map<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<MeterKey, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public MicrometerAerospikeMetrics(MeterRegistry registry) {
+        Assert.notNull(registry, "Meter registry must not be null!");
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void recordOperation(String operation, String setName, long durationNanos, Throwable error) {
+        String outcome = error == null ? SUCCESS : error.getClass().getSimpleName();
+        timers.computeIfAbsent(new MeterKey(OPERATION_TIMER, operation, setName, outcome),
+                key -> Timer.builder(OPERATION_TIMER)
+                    .description("Duration of Aerospike template operations")
+                    .tag("operation", operation)
+                    .tag("set", String.valueOf(setName))
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry))
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordBatchSize(String operation, String setName, int size) {
+        summaries.computeIfAbsent(new MeterKey(BATCH_SIZE, operation, setName, null),
+                key -> DistributionSummary.builder(BATCH_SIZE)
+                    .description("Number of records in batches sent by Aerospike templates")
+                    .baseUnit("records")
+                    .tag("operation", operation)
+                    .tag("set", String.valueOf(setName))
+                    .register(registry))
+            .record(size);
+    }
+
+    @Override
+    public void recordQueryResults(String setName, long records) {
+        summaries.computeIfAbsent(new MeterKey(QUERY_RECORDS, null, setName, null),
+                key -> DistributionSummary.builder(QUERY_RECORDS)
+                    .description("Number of records returned by queries of Aerospike templates")
+                    .baseUnit("records")
+                    .tag("set", String.valueOf(setName))
+                    .register(registry))
+            .record(records);
+    }
+
+    @Override
+    public void recordConversion(ConversionDirection direction, Class<?> type, long durationNanos) {
+        timers.computeIfAbsent(new MeterKey(CONVERSION_TIMER, direction.name(), type.getName(), null),
+                key -> Timer.builder(CONVERSION_TIMER)
+                    .description("Duration of document conversions by Aerospike templates")
+                    .tag("direction", direction.name().toLowerCase())
+                    .tag("type", type.getSimpleName())
+                    .register(registry))
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private record MeterKey(String name, String first, String second, String third) {
+
+    }
+}
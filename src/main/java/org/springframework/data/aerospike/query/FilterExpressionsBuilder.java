@@ -24,9 +24,20 @@ import static org.springframework.data.aerospike.query.QualifierUtils.queryCrite
 public class FilterExpressionsBuilder {
 
     public Expression build(Query query) {
+        Exp exp = buildExp(query);
+        return exp == null ? null : Exp.build(exp);
+    }
+
+    /**
+     * Build the filter expression tree of a query whose statement has already been built, so that qualifiers applied
+     * as secondary index filter are excluded.
+     *
+     * @return Filter expression tree or {@literal null} if the query does not need a filter expression
+     */
+    public Exp buildExp(Query query) {
         Qualifier qualifier = queryCriteriaIsNotNull(query) ? query.getCriteriaObject() : null;
         if (qualifier != null && excludeIrrelevantFilters(qualifier)) {
-            return Exp.build(qualifier.toFilterExp());
+            return qualifier.toFilterExp();
         }
         return null;
     }
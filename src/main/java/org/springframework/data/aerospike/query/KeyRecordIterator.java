@@ -32,8 +32,10 @@ public class KeyRecordIterator implements Iterator<KeyRecord>, Closeable {
     private final String namespace;
     private final Object closeLock = 0;
     private RecordSet recordSet;
+    private MergingRecordSetIterator mergingIterator;
     private Iterator<KeyRecord> recordSetIterator;
     private KeyRecord singleRecord;
+    private volatile SlowOperationLog.Measurement measurement;
 
     public KeyRecordIterator(String namespace) {
         super();
@@ -51,11 +53,35 @@ public class KeyRecordIterator implements Iterator<KeyRecord>, Closeable {
         this.recordSetIterator = recordSet.iterator();
     }
 
+    KeyRecordIterator(String namespace, MergingRecordSetIterator mergingIterator) {
+        this(namespace);
+        this.mergingIterator = mergingIterator;
+        this.recordSetIterator = mergingIterator;
+    }
+
+    /**
+     * Set measurement that counts the returned records and is finished when the records are exhausted or the iterator
+     * is closed, whichever comes first
+     */
+    void setMeasurement(SlowOperationLog.Measurement measurement) {
+        this.measurement = measurement;
+    }
+
+    private void complete() {
+        SlowOperationLog.Measurement currentMeasurement = measurement;
+        if (currentMeasurement != null) {
+            currentMeasurement.finish();
+        }
+    }
+
     @Override
     public void close() {
+        complete();
         synchronized (closeLock) {
             if (recordSet != null)
                 recordSet.close();
+            if (mergingIterator != null)
+                mergingIterator.close();
             if (singleRecord != null)
                 singleRecord = null;
         }
@@ -63,9 +89,14 @@ public class KeyRecordIterator implements Iterator<KeyRecord>, Closeable {
 
     @Override
     public boolean hasNext() {
+        boolean hasNext;
         if (this.recordSetIterator != null)
-            return this.recordSetIterator.hasNext();
-        else return this.singleRecord != null;
+            hasNext = this.recordSetIterator.hasNext();
+        else hasNext = this.singleRecord != null;
+        if (!hasNext) {
+            complete();
+        }
+        return hasNext;
     }
 
     @Override
@@ -78,6 +109,10 @@ public class KeyRecordIterator implements Iterator<KeyRecord>, Closeable {
             keyRecord = singleRecord;
             singleRecord = null;
         }
+        SlowOperationLog.Measurement currentMeasurement = measurement;
+        if (currentMeasurement != null && keyRecord != null) {
+            currentMeasurement.onRecord(keyRecord.record);
+        }
         return keyRecord;
     }
 
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.query.KeyRecord;
+import com.aerospike.client.query.RecordSet;
+
+import java.io.Closeable;
+import java.lang.ref.Cleaner;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Iterator merging results of several {@link RecordSet}s that belong to the same partitioned query.
+ * <p>
+ * In ordered mode the record sets are traversed one after another in the given order, while the following ones keep
+ * receiving records in the background. In unordered mode each record set is drained by its own task into a shared
+ * bounded queue, and records are returned as soon as any of the sub-queries produces them.
+ * <p>
+ * The record sets are closed when the iterator is closed, or when it becomes unreachable without being closed, e.g.
+ * a stream cut short by a limit, so that drain tasks blocked on the full queue are released.
+ */
+class MergingRecordSetIterator implements Iterator<KeyRecord>, Closeable {
+
+    private static final KeyRecord END_OF_RECORD_SET = new KeyRecord(null, null);
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final List<RecordSet> recordSets;
+    private final boolean ordered;
+    private final long maxRecords;
+    // shared with the drain tasks, which must not reference the iterator so that it can become unreachable
+    private final Drains drains;
+    private final Cleaner.Cleanable cleanable;
+    private int currentRecordSet;
+    private int activeRecordSets;
+    private long returnedRecords;
+    private KeyRecord nextRecord;
+
+    /**
+     * @param recordSets    Record sets of the partitioned sub-queries
+     * @param ordered       Whether to return records in the order of the given record sets
+     * @param maxRecords    Maximum amount of records to return in total, non-positive value means no limit
+     * @param executor      Executor to drain record sets with, used only in unordered mode. Each drain task occupies
+     *                      a thread until its record set is drained or closed, so the executor must not be bounded
+     * @param queueCapacity Capacity of the shared queue, used only in unordered mode
+     */
+    MergingRecordSetIterator(List<RecordSet> recordSets, boolean ordered, long maxRecords, Executor executor,
+                             int queueCapacity) {
+        this.recordSets = recordSets;
+        this.ordered = ordered;
+        this.maxRecords = maxRecords;
+        this.activeRecordSets = recordSets.size();
+        Drains newDrains = new Drains(recordSets, ordered ? null : new ArrayBlockingQueue<>(queueCapacity));
+        this.drains = newDrains;
+        this.cleanable = CLEANER.register(this, newDrains);
+        if (!ordered) {
+            // the tasks capture the drains only, not the iterator
+            recordSets.forEach(recordSet -> executor.execute(() -> newDrains.drain(recordSet)));
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextRecord != null) {
+            return true;
+        }
+        if (drains.closed || (maxRecords > 0 && returnedRecords >= maxRecords)) {
+            return false;
+        }
+        nextRecord = ordered ? nextOrdered() : nextUnordered();
+        return nextRecord != null;
+    }
+
+    @Override
+    public KeyRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        KeyRecord keyRecord = nextRecord;
+        nextRecord = null;
+        returnedRecords++;
+        return keyRecord;
+    }
+
+    @Override
+    public void close() {
+        cleanable.clean();
+    }
+
+    private KeyRecord nextOrdered() {
+        while (currentRecordSet < recordSets.size()) {
+            RecordSet recordSet = recordSets.get(currentRecordSet);
+            if (recordSet.next()) {
+                return new KeyRecord(recordSet.getKey(), recordSet.getRecord());
+            }
+            currentRecordSet++;
+        }
+        return null;
+    }
+
+    private KeyRecord nextUnordered() {
+        while (activeRecordSets > 0) {
+            KeyRecord keyRecord;
+            try {
+                keyRecord = drains.queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new AerospikeException.QueryTerminated(e);
+            }
+            if (keyRecord != END_OF_RECORD_SET) {
+                return keyRecord;
+            }
+            activeRecordSets--;
+            RuntimeException failure = drains.failure;
+            if (failure != null) {
+                close();
+                throw failure;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Record sets with the queue they are drained into, running it closes them.
+     */
+    private static class Drains implements Runnable {
+
+        private final List<RecordSet> recordSets;
+        private final BlockingQueue<KeyRecord> queue;
+        private volatile boolean closed;
+        private volatile RuntimeException failure;
+
+        Drains(List<RecordSet> recordSets, BlockingQueue<KeyRecord> queue) {
+            this.recordSets = recordSets;
+            this.queue = queue;
+        }
+
+        @Override
+        public void run() {
+            closed = true;
+            recordSets.forEach(RecordSet::close);
+            if (queue != null) {
+                queue.clear();
+            }
+        }
+
+        private void drain(RecordSet recordSet) {
+            try {
+                while (!closed && recordSet.next()) {
+                    put(new KeyRecord(recordSet.getKey(), recordSet.getRecord()));
+                }
+            } catch (RuntimeException e) {
+                if (!closed) {
+                    failure = e;
+                }
+            } finally {
+                put(END_OF_RECORD_SET);
+            }
+        }
+
+        private void put(KeyRecord keyRecord) {
+            try {
+                while (!closed) {
+                    if (queue.offer(keyRecord, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -18,17 +18,30 @@ package org.springframework.data.aerospike.query;
 
 import com.aerospike.client.IAerospikeClient;
 import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
 import com.aerospike.client.Record;
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.exp.Exp;
 import com.aerospike.client.policy.Policy;
 import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.policy.WritePolicy;
 import com.aerospike.client.query.KeyRecord;
+import com.aerospike.client.query.PartitionFilter;
 import com.aerospike.client.query.RecordSet;
 import com.aerospike.client.query.Statement;
+import com.aerospike.client.task.ExecuteTask;
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.data.aerospike.core.AerospikeExecutors;
+import org.springframework.data.aerospike.query.model.QueryPlan;
+import org.springframework.data.aerospike.query.model.QueryPlan.IndexCandidate;
 import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.lang.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
 import static org.springframework.data.aerospike.query.QualifierUtils.queryCriteriaIsNotNull;
 
 /**
@@ -37,7 +50,7 @@ import static org.springframework.data.aerospike.query.QualifierUtils.queryCrite
  * @author peter
  * @author Anastasiia Smirnova
  */
-public class QueryEngine {
+public class QueryEngine implements AutoCloseable {
 
     public static final String SCANS_DISABLED_MESSAGE =
         "Query without a filter will initiate a scan. Since scans are potentially dangerous operations, they are " +
@@ -57,6 +70,28 @@ public class QueryEngine {
     @Setter
     @Getter
     private long queryMaxRecords;
+    /**
+     * Number of partition ranges a query is split into, the resulting sub-queries are executed concurrently. Values
+     * lower than 2 mean that a single query over all partitions is sent.
+     */
+    @Setter
+    @Getter
+    private int queryParallelism = 1;
+    /**
+     * Whether results of a parallel query are returned in partition order or as soon as any sub-query produces them.
+     */
+    @Setter
+    @Getter
+    private boolean queryParallelOrdered;
+    /**
+     * Log of queries exceeding latency or result size thresholds, each entry includes the {@link QueryPlan}
+     */
+    @Setter
+    @Getter
+    private SlowOperationLog slowOperationLog = SlowOperationLog.DISABLED;
+    // drains sub-queries of unordered parallel queries, created on first use
+    private ExecutorService mergeExecutor;
+    private boolean closed;
 
     public QueryEngine(IAerospikeClient client, StatementBuilder statementBuilder,
                        FilterExpressionsBuilder filterExpressionsBuilder) {
@@ -65,6 +100,17 @@ public class QueryEngine {
         this.filterExpressionsBuilder = filterExpressionsBuilder;
     }
 
+    /**
+     * Stop the threads draining sub-queries of parallel queries.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (mergeExecutor != null) {
+            mergeExecutor.shutdown();
+        }
+    }
+
     /**
      * Select records filtered by a query
      *
@@ -78,7 +124,9 @@ public class QueryEngine {
     }
 
     /**
-     * Select records filtered by a query
+     * Select records filtered by a query. Offset and rows of the query are applied by the caller, the statement is
+     * only limited to queryMaxRecords because its max records are approximate and divided between nodes, so slices
+     * and first/top queries are not limited on the server.
      *
      * @param namespace Namespace to store the data
      * @param set       Set storing the data
@@ -106,16 +154,63 @@ public class QueryEngine {
         /*
          *  query with filters
          */
-        Statement statement = statementBuilder.build(namespace, set, query, binNames);
+        List<IndexCandidate> candidates = slowOperationLog.isEnabled() ? new ArrayList<>() : null;
+        Statement statement = statementBuilder.build(namespace, set, query, binNames, candidates);
         statement.setMaxRecords(queryMaxRecords);
-        QueryPolicy localQueryPolicy = getQueryPolicy(query, true);
+        Exp filterExp = filterExpressionsBuilder.buildExp(query);
+        QueryPolicy localQueryPolicy = getQueryPolicy(filterExp, true);
 
         if (!scansEnabled && statement.getFilter() == null) {
             throw new IllegalStateException(SCANS_DISABLED_MESSAGE);
         }
 
-        RecordSet rs = client.query(localQueryPolicy, statement);
-        return new KeyRecordIterator(namespace, rs);
+        return executeMeasuredQuery("query", namespace, localQueryPolicy, statement, candidates, filterExp, query);
+    }
+
+    /**
+     * Describe how a query would be executed without executing it
+     *
+     * @param namespace Namespace to store the data
+     * @param set       Set storing the data
+     * @param binNames  Bin names to return from the query
+     * @param query     {@link Query} for filtering results
+     * @return Plan of the query
+     */
+    public QueryPlan explain(String namespace, String set, String[] binNames, @Nullable Query query) {
+        Qualifier qualifier = queryCriteriaIsNotNull(query) ? query.getCriteriaObject() : null;
+        if (qualifier instanceof KeyQualifier) {
+            return QueryPlan.builder()
+                .namespace(namespace)
+                .setName(set)
+                .type(QueryPlan.Type.PRIMARY_KEY)
+                .build();
+        }
+
+        List<IndexCandidate> candidates = new ArrayList<>();
+        Statement statement = statementBuilder.build(namespace, set, query, binNames, candidates);
+        statement.setMaxRecords(queryMaxRecords);
+        return createPlan(statement, candidates, filterExpressionsBuilder.buildExp(query), query);
+    }
+
+    private QueryPlan createPlan(Statement statement, List<IndexCandidate> candidates, @Nullable Exp filterExp,
+                                 @Nullable Query query) {
+        return createPlan(statement, candidates, filterExp, query,
+            queryParallelism < 2 ? List.of() : getPartitionFilters(queryParallelism));
+    }
+
+    static QueryPlan createPlan(Statement statement, List<IndexCandidate> candidates, @Nullable Exp filterExp,
+                                @Nullable Query query, List<PartitionFilter> partitionFilters) {
+        return QueryPlan.builder()
+            .namespace(statement.getNamespace())
+            .setName(statement.getSetName())
+            .type(statement.getFilter() == null ? QueryPlan.Type.SCAN : QueryPlan.Type.SECONDARY_INDEX)
+            .indexFilter(statement.getFilter())
+            .candidateIndexes(candidates)
+            .filterExp(filterExp)
+            .filterDescription(filterExp == null ? null : QueryPlan.describe(query.getCriteriaObject()))
+            .partitionFilters(partitionFilters)
+            .maxRecords(statement.getMaxRecords())
+            .build();
     }
 
     /**
@@ -127,16 +222,113 @@ public class QueryEngine {
      * @return A KeyRecordIterator for counting
      */
     public KeyRecordIterator selectForCount(String namespace, String set, @Nullable Query query) {
+        return selectForCount(namespace, set, query, queryMaxRecords);
+    }
+
+    /**
+     * Select records filtered by a query to be counted, the server stops reading after the given amount of records
+     *
+     * @param namespace  Namespace to store the data
+     * @param set        Set storing the data
+     * @param query      {@link Query} for filtering results
+     * @param maxRecords Maximum number of records to return, 0 means no limit
+     * @return A KeyRecordIterator for counting
+     */
+    public KeyRecordIterator selectForCount(String namespace, String set, @Nullable Query query, long maxRecords) {
+        List<IndexCandidate> candidates = slowOperationLog.isEnabled() ? new ArrayList<>() : null;
+        Statement statement = statementBuilder.build(namespace, set, query, null, candidates);
+        statement.setMaxRecords(maxRecords);
+        Exp filterExp = filterExpressionsBuilder.buildExp(query);
+        QueryPolicy localQueryPolicy = getQueryPolicy(filterExp, false);
+
+        if (!scansEnabled && statement.getFilter() == null) {
+            throw new IllegalStateException(SCANS_DISABLED_MESSAGE);
+        }
+
+        return executeMeasuredQuery("count", namespace, localQueryPolicy, statement, candidates, filterExp, query);
+    }
+
+    /**
+     * Apply operations to the records filtered by a query in a background task on the server
+     *
+     * @param namespace   Namespace to store the data
+     * @param set         Set storing the data
+     * @param query       {@link Query} for filtering records, {@literal null} means all records of the set
+     * @param writePolicy Write policy of the operations, its filter expression is replaced with the query's one
+     * @param operations  Operations to apply to each filtered record
+     * @return ExecuteTask to track completion of the background task
+     */
+    public ExecuteTask execute(String namespace, String set, @Nullable Query query, WritePolicy writePolicy,
+                               Operation... operations) {
         Statement statement = statementBuilder.build(namespace, set, query);
-        statement.setMaxRecords(queryMaxRecords);
-        QueryPolicy localQueryPolicy = getQueryPolicy(query, false);
+        Exp filterExp = filterExpressionsBuilder.buildExp(query);
 
         if (!scansEnabled && statement.getFilter() == null) {
             throw new IllegalStateException(SCANS_DISABLED_MESSAGE);
         }
 
-        RecordSet rs = client.query(localQueryPolicy, statement);
-        return new KeyRecordIterator(namespace, rs);
+        WritePolicy policy = new WritePolicy(writePolicy);
+        policy.filterExp = filterExp == null ? null : Exp.build(filterExp);
+        return client.execute(policy, statement, operations);
+    }
+
+    private KeyRecordIterator executeMeasuredQuery(String operation, String namespace, QueryPolicy policy,
+                                                   Statement statement, @Nullable List<IndexCandidate> candidates,
+                                                   @Nullable Exp filterExp, @Nullable Query query) {
+        if (candidates == null) {
+            return executeQuery(namespace, policy, statement);
+        }
+        SlowOperationLog.Measurement measurement = slowOperationLog.start(operation, statement.getSetName(),
+            () -> createPlan(statement, candidates, filterExp, query));
+        KeyRecordIterator iterator = executeQuery(namespace, policy, statement);
+        iterator.setMeasurement(measurement);
+        return iterator;
+    }
+
+    private KeyRecordIterator executeQuery(String namespace, QueryPolicy policy, Statement statement) {
+        if (queryParallelism < 2) {
+            RecordSet rs = client.query(policy, statement);
+            return new KeyRecordIterator(namespace, rs);
+        }
+
+        ExecutorService executor = queryParallelOrdered ? null : getMergeExecutor();
+        List<RecordSet> recordSets = new ArrayList<>(queryParallelism);
+        try {
+            for (PartitionFilter partitionFilter : getPartitionFilters(queryParallelism)) {
+                recordSets.add(client.queryPartitions(policy, statement, partitionFilter));
+            }
+        } catch (RuntimeException e) {
+            recordSets.forEach(RecordSet::close);
+            throw e;
+        }
+        // each sub-query is limited by maxRecords separately, so the overall limit is applied while merging
+        return new KeyRecordIterator(namespace, new MergingRecordSetIterator(recordSets, queryParallelOrdered,
+            statement.getMaxRecords(), executor, policy.recordQueueSize));
+    }
+
+    /**
+     * Each sub-query of an unordered parallel query occupies a thread until it is drained or closed, a bounded pool
+     * would let sub-queries of iterators that are not read any further block all later queries.
+     */
+    private synchronized ExecutorService getMergeExecutor() {
+        if (closed) {
+            throw new IllegalStateException("Query engine is closed");
+        }
+        if (mergeExecutor == null) {
+            mergeExecutor = AerospikeExecutors.newUnboundedExecutor("aerospike-query-merge-");
+        }
+        return mergeExecutor;
+    }
+
+    static List<PartitionFilter> getPartitionFilters(int parallelism) {
+        int rangesCount = Math.min(parallelism, Node.PARTITIONS);
+        List<PartitionFilter> partitionFilters = new ArrayList<>(rangesCount);
+        for (int i = 0; i < rangesCount; i++) {
+            int begin = i * Node.PARTITIONS / rangesCount;
+            int end = (i + 1) * Node.PARTITIONS / rangesCount;
+            partitionFilters.add(PartitionFilter.range(begin, end - begin));
+        }
+        return partitionFilters;
     }
 
     @SuppressWarnings("SameParameterValue")
@@ -147,9 +339,9 @@ public class QueryEngine {
         return client.get(policy, key, binNames);
     }
 
-    private QueryPolicy getQueryPolicy(Query query, boolean includeBins) {
+    private QueryPolicy getQueryPolicy(@Nullable Exp filterExp, boolean includeBins) {
         QueryPolicy queryPolicy = new QueryPolicy(client.getQueryPolicyDefault());
-        queryPolicy.filterExp = filterExpressionsBuilder.build(query);
+        queryPolicy.filterExp = filterExp == null ? null : Exp.build(filterExp);
         queryPolicy.includeBinData = includeBins;
         return queryPolicy;
     }
@@ -17,19 +17,26 @@
 package org.springframework.data.aerospike.query;
 
 import com.aerospike.client.Key;
+import com.aerospike.client.exp.Exp;
 import com.aerospike.client.policy.Policy;
 import com.aerospike.client.policy.QueryPolicy;
 import com.aerospike.client.query.KeyRecord;
+import com.aerospike.client.query.PartitionFilter;
 import com.aerospike.client.query.Statement;
 import com.aerospike.client.reactor.IAerospikeReactorClient;
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.data.aerospike.query.model.QueryPlan.IndexCandidate;
 import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.lang.Nullable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.concurrent.Queues;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
 import static org.springframework.data.aerospike.query.QualifierUtils.queryCriteriaIsNotNull;
 
@@ -54,6 +61,31 @@ public class ReactorQueryEngine {
     @Setter
     @Getter
     private long queryMaxRecords;
+    /**
+     * Number of partition ranges a query is split into, the resulting sub-queries are subscribed to concurrently.
+     * Values lower than 2 mean that a single query over all partitions is sent.
+     */
+    @Setter
+    @Getter
+    private int queryParallelism = 1;
+    /**
+     * Whether results of a parallel query are returned in partition order or as soon as any sub-query produces them.
+     */
+    @Setter
+    @Getter
+    private boolean queryParallelOrdered;
+    /**
+     * Number of records requested ahead from each sub-query of a parallel query.
+     */
+    @Setter
+    @Getter
+    private int queryPrefetch = Queues.SMALL_BUFFER_SIZE;
+    /**
+     * Log of queries exceeding latency or result size thresholds, each entry includes the query plan
+     */
+    @Setter
+    @Getter
+    private SlowOperationLog slowOperationLog = SlowOperationLog.DISABLED;
 
     public ReactorQueryEngine(IAerospikeReactorClient client, StatementBuilder statementBuilder,
                               FilterExpressionsBuilder filterExpressionsBuilder) {
@@ -98,15 +130,52 @@ public class ReactorQueryEngine {
         /*
          *  query with filters
          */
-        Statement statement = statementBuilder.build(namespace, set, query, binNames);
+        return select(namespace, set, binNames, query,
+            queryParallelism < 2 ? List.of() : createPartitionFilters(queryParallelism));
+    }
+
+    /**
+     * Select records of the given partition ranges filtered by a Filter and Qualifiers, sub-queries of the ranges are
+     * subscribed to concurrently.
+     * <p>
+     * Each {@link PartitionFilter} keeps the progress of its range, selecting again with the same partition filters
+     * only queries the ranges that are not done. The progress advances when the client receives a record, not when it
+     * is emitted: records received ahead of demand (up to {@code queryPrefetch} per range) are dropped when the
+     * returned Flux fails or is cancelled and are not returned again on resume. So resuming has at-most-once
+     * semantics, a failed selection has to be started over with new partition filters if every record is needed.
+     *
+     * @param namespace        Namespace to store the data
+     * @param set              Set storing the data
+     * @param binNames         Bin names to return from the query
+     * @param query            {@link Query} for filtering results
+     * @param partitionFilters Partition ranges to query, e.g. created by {@link #createPartitionFilters(int)}, empty
+     *                         list means a single query over all partitions
+     * @return A Flux<KeyRecord> to iterate over the results
+     */
+    public Flux<KeyRecord> select(String namespace, String set, String[] binNames, @Nullable Query query,
+                                  List<PartitionFilter> partitionFilters) {
+        List<IndexCandidate> candidates = slowOperationLog.isEnabled() ? new ArrayList<>() : null;
+        Statement statement = statementBuilder.build(namespace, set, query, binNames, candidates);
         statement.setMaxRecords(queryMaxRecords);
-        QueryPolicy localQueryPolicy = getQueryPolicy(query, true);
+        Exp filterExp = filterExpressionsBuilder.buildExp(query);
+        QueryPolicy localQueryPolicy = getQueryPolicy(filterExp, true);
 
         if (!scansEnabled && statement.getFilter() == null) {
             return Flux.error(new IllegalStateException(QueryEngine.SCANS_DISABLED_MESSAGE));
         }
 
-        return client.query(localQueryPolicy, statement);
+        return measure("query", executeQuery(localQueryPolicy, statement, partitionFilters), statement, candidates,
+            filterExp, query, partitionFilters);
+    }
+
+    /**
+     * Split all partitions into the given number of ranges of equal size
+     *
+     * @param parallelism Number of ranges
+     * @return New partition filters, one per range
+     */
+    public static List<PartitionFilter> createPartitionFilters(int parallelism) {
+        return QueryEngine.getPartitionFilters(parallelism);
     }
 
     /**
@@ -118,20 +187,60 @@ public class ReactorQueryEngine {
      * @return A Flux<KeyRecord> for counting
      */
     public Flux<KeyRecord> selectForCount(String namespace, String set, @Nullable Query query) {
-        Statement statement = statementBuilder.build(namespace, set, query);
+        List<IndexCandidate> candidates = slowOperationLog.isEnabled() ? new ArrayList<>() : null;
+        Statement statement = statementBuilder.build(namespace, set, query, null, candidates);
         statement.setMaxRecords(queryMaxRecords);
-        QueryPolicy localQueryPolicy = getQueryPolicy(query, false);
+        Exp filterExp = filterExpressionsBuilder.buildExp(query);
+        QueryPolicy localQueryPolicy = getQueryPolicy(filterExp, false);
 
         if (!scansEnabled && statement.getFilter() == null) {
             return Flux.error(new IllegalStateException(QueryEngine.SCANS_DISABLED_MESSAGE));
         }
 
-        return client.query(localQueryPolicy, statement);
+        List<PartitionFilter> partitionFilters = queryParallelism < 2 ? List.of()
+            : createPartitionFilters(queryParallelism);
+        return measure("count", executeQuery(localQueryPolicy, statement, partitionFilters), statement, candidates,
+            filterExp, query, partitionFilters);
+    }
+
+    private Flux<KeyRecord> executeQuery(QueryPolicy policy, Statement statement,
+                                         List<PartitionFilter> partitionFilters) {
+        if (partitionFilters.isEmpty()) {
+            return client.query(policy, statement);
+        }
+
+        List<Flux<KeyRecord>> subQueries = partitionFilters.stream()
+            .filter(partitionFilter -> !partitionFilter.isDone())
+            .map(partitionFilter -> client.queryPartitions(policy, statement, partitionFilter))
+            .toList();
+        int concurrency = Math.max(subQueries.size(), 1);
+        int prefetch = Math.max(queryPrefetch, 1);
+        Flux<Flux<KeyRecord>> sources = Flux.fromIterable(subQueries);
+        Flux<KeyRecord> records = queryParallelOrdered
+            ? sources.flatMapSequential(Function.identity(), concurrency, prefetch)
+            : sources.flatMap(Function.identity(), concurrency, prefetch);
+        // each sub-query is limited by maxRecords separately, so the overall limit is applied while merging
+        return statement.getMaxRecords() > 0 ? records.take(statement.getMaxRecords(), true) : records;
+    }
+
+    private Flux<KeyRecord> measure(String operation, Flux<KeyRecord> records, Statement statement,
+                                    @Nullable List<IndexCandidate> candidates, @Nullable Exp filterExp,
+                                    @Nullable Query query, List<PartitionFilter> partitionFilters) {
+        if (candidates == null) {
+            return records;
+        }
+        return Flux.defer(() -> {
+            SlowOperationLog.Measurement measurement = slowOperationLog.start(operation, statement.getSetName(),
+                () -> QueryEngine.createPlan(statement, candidates, filterExp, query, partitionFilters));
+            return records
+                .doOnNext(keyRecord -> measurement.onRecord(keyRecord.record))
+                .doFinally(signalType -> measurement.finish());
+        });
     }
 
-    private QueryPolicy getQueryPolicy(Query query, boolean includeBins) {
+    private QueryPolicy getQueryPolicy(@Nullable Exp filterExp, boolean includeBins) {
         QueryPolicy queryPolicy = new QueryPolicy(client.getQueryPolicyDefault());
-        queryPolicy.filterExp = filterExpressionsBuilder.build(query);
+        queryPolicy.filterExp = filterExp == null ? null : Exp.build(filterExp);
         queryPolicy.includeBinData = includeBins;
         return queryPolicy;
     }
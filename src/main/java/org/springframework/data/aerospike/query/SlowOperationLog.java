@@ -0,0 +1,188 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Record;
+import com.aerospike.client.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Logs queries and batch operations that take too long or return too many records or bytes.
+ * <p>
+ * An operation is measured from its start until its results are consumed or closed. Logging is rate limited: at most
+ * the configured amount of entries is logged per second, entries above that are only counted and the count is
+ * reported with the next logged entry. Bytes are estimated from the bins of returned records only if a bytes threshold
+ * is set.
+ */
+@Slf4j
+public class SlowOperationLog {
+
+    /**
+     * Log that measures nothing.
+     */
+    public static final SlowOperationLog DISABLED = new SlowOperationLog(0, 0, 0, 0);
+
+    private final long thresholdNanos;
+    private final long recordsThreshold;
+    private final long bytesThreshold;
+    private final int maxEntriesPerSecond;
+    private long currentSecond;
+    private int entriesInCurrentSecond;
+    private long suppressedEntries;
+
+    /**
+     * @param thresholdMillis     Log operations taking at least this amount of milliseconds, non-positive value
+     *                            disables the latency threshold
+     * @param recordsThreshold    Log operations returning more than this amount of records, non-positive value
+     *                            disables the records threshold
+     * @param bytesThreshold      Log operations returning more than this amount of bin bytes, non-positive value
+     *                            disables the bytes threshold
+     * @param maxEntriesPerSecond Maximum amount of entries logged per second, non-positive value disables logging
+     */
+    public SlowOperationLog(long thresholdMillis, long recordsThreshold, long bytesThreshold,
+                            int maxEntriesPerSecond) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(thresholdMillis, 0));
+        this.recordsThreshold = Math.max(recordsThreshold, 0);
+        this.bytesThreshold = Math.max(bytesThreshold, 0);
+        this.maxEntriesPerSecond = maxEntriesPerSecond;
+    }
+
+    public boolean isEnabled() {
+        return maxEntriesPerSecond > 0 && (thresholdNanos > 0 || recordsThreshold > 0 || bytesThreshold > 0);
+    }
+
+    /**
+     * Start measuring an operation.
+     *
+     * @param operation Name of the operation, e.g. "query" or "batchRead"
+     * @param setName   Set the operation is applied to
+     * @param details   Description of the operation, e.g. its plan. Only evaluated if an entry is logged
+     * @return Measurement of the operation, {@literal null} if the log is disabled
+     */
+    public Measurement start(String operation, String setName, Supplier<?> details) {
+        return isEnabled() ? new Measurement(operation, setName, details) : null;
+    }
+
+    private boolean isExceeded(long durationNanos, long records, long bytes) {
+        return (thresholdNanos > 0 && durationNanos >= thresholdNanos)
+            || (recordsThreshold > 0 && records > recordsThreshold)
+            || (bytesThreshold > 0 && bytes > bytesThreshold);
+    }
+
+    /**
+     * @return Amount of entries suppressed since the last logged entry, or -1 if the entry must not be logged
+     */
+    synchronized long tryAcquire() {
+        long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        if (second != currentSecond) {
+            currentSecond = second;
+            entriesInCurrentSecond = 0;
+        }
+        if (entriesInCurrentSecond >= maxEntriesPerSecond) {
+            suppressedEntries++;
+            return -1;
+        }
+        entriesInCurrentSecond++;
+        long suppressed = suppressedEntries;
+        suppressedEntries = 0;
+        return suppressed;
+    }
+
+    private static long estimateSize(Record record) {
+        if (record == null || record.bins == null) {
+            return 0;
+        }
+        long size = 0;
+        for (Map.Entry<String, Object> bin : record.bins.entrySet()) {
+            size += bin.getKey().length();
+            try {
+                size += Value.get(bin.getValue()).estimateSize();
+            } catch (AerospikeException | IllegalArgumentException e) {
+                // the size of a value that can not be packed is not counted
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Measurement of a single operation, {@link #finish()} logs it if any threshold is exceeded.
+     */
+    public class Measurement {
+
+        private final String operation;
+        private final String setName;
+        private final Supplier<?> details;
+        private final long start = System.nanoTime();
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private volatile long records;
+        private volatile long bytes;
+
+        private Measurement(String operation, String setName, Supplier<?> details) {
+            this.operation = operation;
+            this.setName = setName;
+            this.details = details;
+        }
+
+        /**
+         * Count a returned record. Records of an operation are expected to be counted by one thread at a time.
+         */
+        @SuppressWarnings("NonAtomicOperationOnVolatileField")
+        public void onRecord(Record record) {
+            records++;
+            if (bytesThreshold > 0) {
+                bytes += estimateSize(record);
+            }
+        }
+
+        /**
+         * Count the returned records of a batch, {@literal null} elements are records that were not found.
+         */
+        public void onRecords(Record[] returnedRecords) {
+            for (Record record : returnedRecords) {
+                if (record != null) {
+                    onRecord(record);
+                }
+            }
+        }
+
+        /**
+         * Finish the measurement and log the operation if a threshold is exceeded. Only the first call has effect.
+         */
+        public void finish() {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            long durationNanos = System.nanoTime() - start;
+            if (!isExceeded(durationNanos, records, bytes)) {
+                return;
+            }
+            long suppressed = tryAcquire();
+            if (suppressed < 0) {
+                return;
+            }
+            log.warn("Slow {} on set {}: {} ms, {} records{}, {}{}", operation, setName,
+                TimeUnit.NANOSECONDS.toMillis(durationNanos), records,
+                bytesThreshold > 0 ? ", " + bytes + " bytes" : "", details.get(),
+                suppressed > 0 ? " (" + suppressed + " similar entries suppressed)" : "");
+        }
+    }
+}
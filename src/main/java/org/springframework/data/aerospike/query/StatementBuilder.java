@@ -22,13 +22,17 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.aerospike.query.cache.IndexesCache;
 import org.springframework.data.aerospike.query.model.Index;
 import org.springframework.data.aerospike.query.model.IndexedField;
+import org.springframework.data.aerospike.query.model.QueryPlan.IndexCandidate;
 import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.springframework.data.aerospike.query.QualifierUtils.queryCriteriaIsNotNull;
 
@@ -50,6 +54,15 @@ public class StatementBuilder {
     }
 
     public Statement build(String namespace, String set, @Nullable Query query, String[] binNames) {
+        return build(namespace, set, query, binNames, null);
+    }
+
+    /**
+     * Build a statement, adding secondary indexes considered for its filter to the given list if it is not
+     * {@literal null}
+     */
+    Statement build(String namespace, String set, @Nullable Query query, String[] binNames,
+                    @Nullable List<IndexCandidate> candidates) {
         Statement stmt = new Statement();
         stmt.setNamespace(namespace);
         stmt.setSetName(set);
@@ -59,10 +72,28 @@ public class StatementBuilder {
         if (queryCriteriaIsNotNull(query)) {
             // statement's filter is set based on the first processed qualifier's filter
             setStatementFilterFromQualifiers(stmt, query.getCriteriaObject());
+            if (candidates != null) {
+                addIndexCandidates(stmt, query.getCriteriaObject(), candidates);
+            }
         }
         return stmt;
     }
 
+    private void addIndexCandidates(Statement stmt, Qualifier qualifier, List<IndexCandidate> candidates) {
+        Filter filter = stmt.getFilter();
+        Stream<Qualifier> qualifiers = qualifier.getOperation() == FilterOperation.AND
+            ? Arrays.stream(qualifier.getQualifiers()) : Stream.of(qualifier);
+        qualifiers
+            .filter(Objects::nonNull)
+            .filter(innerQualifier -> StringUtils.hasLength(innerQualifier.getField()))
+            .flatMap(innerQualifier -> indexesCache.getAllIndexesForField(
+                new IndexedField(stmt.getNamespace(), stmt.getSetName(), innerQualifier.getField())).stream())
+            .distinct()
+            .map(index -> new IndexCandidate(index.getName(), index.getBin(), index.getIndexType(),
+                index.getBinValuesRatio(), filter != null && index.getBin().equals(filter.getName())))
+            .forEach(candidates::add);
+    }
+
     private void setStatementFilterFromQualifiers(Statement stmt, Qualifier qualifier) {
         // No qualifier, no need to set statement filter
         if (qualifier == null) {
@@ -22,6 +22,7 @@ import com.aerospike.client.policy.InfoPolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.aerospike.query.model.IndexesInfo;
+import org.springframework.data.aerospike.server.info.ClusterInfoService;
 import org.springframework.data.aerospike.server.version.ServerVersionSupport;
 
 import java.util.Arrays;
@@ -40,18 +41,27 @@ public class IndexRefresher {
     private final IAerospikeClient client;
     private final InfoPolicy infoPolicy;
     private final ServerVersionSupport serverVersionSupport;
+    private final ClusterInfoService clusterInfoService;
     private final InternalIndexOperations indexOperations;
     private final IndexesCacheUpdater indexesCacheUpdater;
     private final ScheduledExecutorService executorService;
 
     public IndexRefresher(IAerospikeClient client, InfoPolicy infoPolicy, InternalIndexOperations indexOperations,
                           IndexesCacheUpdater indexesCacheUpdater, ServerVersionSupport serverVersionSupport) {
+        this(client, infoPolicy, indexOperations, indexesCacheUpdater, serverVersionSupport,
+            new ClusterInfoService(client, Runnable::run));
+    }
+
+    public IndexRefresher(IAerospikeClient client, InfoPolicy infoPolicy, InternalIndexOperations indexOperations,
+                          IndexesCacheUpdater indexesCacheUpdater, ServerVersionSupport serverVersionSupport,
+                          ClusterInfoService clusterInfoService) {
         this.client = client;
         this.infoPolicy = infoPolicy;
         this.indexOperations = indexOperations;
         this.indexesCacheUpdater = indexesCacheUpdater;
         this.executorService = Executors.newSingleThreadScheduledExecutor();
         this.serverVersionSupport = serverVersionSupport;
+        this.clusterInfoService = clusterInfoService;
     }
 
     public void scheduleRefreshIndexes(long intervalSeconds) {
@@ -68,7 +78,8 @@ public class IndexRefresher {
             .map(node -> Info.request(infoPolicy, node, indexOperations.buildGetIndexesCommand()))
             .map(response -> {
                 IndexesInfo indexesInfo = indexOperations.parseIndexesInfo(response);
-                indexOperations.enrichIndexesWithCardinality(client, indexesInfo.indexes, serverVersionSupport);
+                indexOperations.enrichIndexesWithCardinality(clusterInfoService, indexesInfo.indexes,
+                    serverVersionSupport);
                 return indexesInfo;
             })
             .orElse(IndexesInfo.empty());
@@ -21,6 +21,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.aerospike.query.model.Index;
 import org.springframework.data.aerospike.query.model.IndexKey;
 import org.springframework.data.aerospike.query.model.IndexesInfo;
+import org.springframework.data.aerospike.server.info.ClusterInfoService;
 import org.springframework.data.aerospike.server.version.ServerVersionSupport;
 
 import java.util.Arrays;
@@ -68,13 +69,34 @@ public class InternalIndexOperations {
         return SINDEX_WITH_BASE64;
     }
 
-    public void enrichIndexesWithCardinality(IAerospikeClient client, Map<IndexKey, Index> indexes,
+    /**
+     * Enrich indexes with cardinality requesting statistics of all indexes from a random node in a single request.
+     */
+    public void enrichIndexesWithCardinality(ClusterInfoService clusterInfoService, Map<IndexKey, Index> indexes,
                                              ServerVersionSupport serverVersionSupport) {
+        if (indexes.isEmpty() || !serverVersionSupport.sIndexCardinality()) {
+            return;
+        }
         log.debug("Enriching secondary indexes with cardinality");
-        indexes.values().forEach(
-            index -> index.setBinValuesRatio(getIndexBinValuesRatio(client, serverVersionSupport, index.getNamespace(),
-                index.getName()))
-        );
+        String[] commands = indexes.values().stream()
+            .map(index -> buildGetIndexStatCommand(index.getNamespace(), index.getName()))
+            .distinct()
+            .toArray(String[]::new);
+        Map<String, String> responses;
+        try {
+            responses = clusterInfoService.requestRandomNode(commands);
+        } catch (Exception e) {
+            log.warn("Failed to fetch secondary indexes cardinality", e);
+            return;
+        }
+        indexes.values().forEach(index -> {
+            String indexStatData = responses.get(buildGetIndexStatCommand(index.getNamespace(), index.getName()));
+            try {
+                index.setBinValuesRatio(parseBinValuesRatio(indexStatData));
+            } catch (Exception e) {
+                log.warn("Failed to fetch secondary index {} cardinality", index.getName(), e);
+            }
+        });
     }
 
     public int getIndexBinValuesRatio(IAerospikeClient client, ServerVersionSupport serverVersionSupport,
@@ -82,21 +104,29 @@ public class InternalIndexOperations {
         if (serverVersionSupport.sIndexCardinality()) {
             try {
                 String indexStatData = Info.request(client.getInfoPolicyDefault(), client.getCluster().getRandomNode(),
-                    String.format("sindex-stat:ns=%s;indexname=%s", namespace, indexName));
+                    buildGetIndexStatCommand(namespace, indexName));
 
-                return Integer.parseInt(
-                    Arrays.stream(indexStatData.split(";"))
-                        .map(String::trim)
-                        .toList().stream()
-                        .map(stat -> Arrays.stream(stat.split("="))
-                            .map(String::trim)
-                            .collect(Collectors.toList()))
-                        .collect(Collectors.toMap(t -> t.get(0), t -> t.get(1)))
-                        .get("entries_per_bval"));
+                return parseBinValuesRatio(indexStatData);
             } catch (Exception e) {
                 log.warn("Failed to fetch secondary index {} cardinality", indexName, e);
             }
         }
         return 0;
     }
+
+    private static String buildGetIndexStatCommand(String namespace, String indexName) {
+        return String.format("sindex-stat:ns=%s;indexname=%s", namespace, indexName);
+    }
+
+    private static int parseBinValuesRatio(String indexStatData) {
+        return Integer.parseInt(
+            Arrays.stream(indexStatData.split(";"))
+                .map(String::trim)
+                .toList().stream()
+                .map(stat -> Arrays.stream(stat.split("="))
+                    .map(String::trim)
+                    .collect(Collectors.toList()))
+                .collect(Collectors.toMap(t -> t.get(0), t -> t.get(1)))
+                .get("entries_per_bval"));
+    }
 }
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query.model;
+
+import com.aerospike.client.exp.Exp;
+import com.aerospike.client.query.Filter;
+import com.aerospike.client.query.IndexType;
+import com.aerospike.client.query.PartitionFilter;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+import org.springframework.data.aerospike.query.FilterOperation;
+import org.springframework.data.aerospike.query.Qualifier;
+import org.springframework.lang.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Describes how a query is executed: which secondary index filter is used, which indexes were considered, which part
+ * of the query is evaluated by the server as a filter expression, which partitions are queried and how many records
+ * the server returns at most.
+ */
+@Builder
+@Getter
+public class QueryPlan {
+
+    private final String namespace;
+    private final String setName;
+    private final Type type;
+    /**
+     * Secondary index filter of the query, {@literal null} if no secondary index is used
+     */
+    @Nullable
+    private final Filter indexFilter;
+    /**
+     * Secondary indexes on the bins of the query's qualifiers, including the one used
+     */
+    @Singular("candidateIndex")
+    private final List<IndexCandidate> candidateIndexes;
+    /**
+     * Filter expression evaluated for each record read, {@literal null} if there is none
+     */
+    @Nullable
+    private final Exp filterExp;
+    /**
+     * Qualifiers the filter expression is built from, {@literal null} if there is no filter expression
+     */
+    @Nullable
+    private final String filterDescription;
+    /**
+     * Partition ranges queried concurrently, empty if a single query over all partitions is sent
+     */
+    @Singular("partitionFilter")
+    private final List<PartitionFilter> partitionFilters;
+    /**
+     * Maximum number of records returned by the server, 0 means no limit
+     */
+    private final long maxRecords;
+
+    /**
+     * @return Name of the bin the secondary index filter is applied to, {@literal null} if no secondary index is used
+     */
+    @Nullable
+    public String getIndexBinName() {
+        return indexFilter == null ? null : indexFilter.getName();
+    }
+
+    /**
+     * Describe the given qualifier and its nested qualifiers.
+     */
+    public static String describe(Qualifier qualifier) {
+        if (qualifier.hasQualifiers()) {
+            String delimiter = qualifier.getOperation() == FilterOperation.AND ? " AND " : " OR ";
+            return Arrays.stream(qualifier.getQualifiers())
+                .map(QueryPlan::describe)
+                .collect(Collectors.joining(delimiter, "(", ")"));
+        }
+        return qualifier.toString();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder()
+            .append(type).append(" on ").append(namespace).append('.').append(setName);
+        if (indexFilter != null) {
+            sb.append(", index filter on bin '").append(indexFilter.getName()).append('\'');
+        }
+        if (!candidateIndexes.isEmpty()) {
+            sb.append(", candidate indexes ").append(candidateIndexes);
+        }
+        if (filterDescription != null) {
+            sb.append(", filter expression ").append(filterDescription);
+        }
+        if (!partitionFilters.isEmpty()) {
+            sb.append(", partition ranges ").append(partitionFilters.stream()
+                .map(filter -> filter.getBegin() + "+" + filter.getCount())
+                .collect(Collectors.joining(", ", "[", "]")));
+        }
+        return sb.append(", max records ").append(maxRecords).toString();
+    }
+
+    public enum Type {
+        /**
+         * Single record read by a key qualifier
+         */
+        PRIMARY_KEY,
+        /**
+         * Batch read of the records with the ids of the query's id qualifier
+         */
+        BATCH_READ,
+        /**
+         * Query using a secondary index filter
+         */
+        SECONDARY_INDEX,
+        /**
+         * Query reading all records of the set
+         */
+        SCAN
+    }
+
+    /**
+     * Secondary index considered for a query.
+     *
+     * @param indexName      Name of the index
+     * @param binName        Name of the indexed bin
+     * @param indexType      Type of the indexed values
+     * @param binValuesRatio Cardinality ratio of the index, lower values are preferred, 0 means unknown
+     * @param chosen         Whether the query's secondary index filter is applied to the bin of this index
+     */
+    public record IndexCandidate(String indexName, String binName, IndexType indexType, int binValuesRatio,
+                                 boolean chosen) {
+
+        @Override
+        public String toString() {
+            return indexName + "(" + binName + ", ratio " + binValuesRatio + (chosen ? ", chosen)" : ")");
+        }
+    }
+}
@@ -18,6 +18,7 @@ package org.springframework.data.aerospike.repository;
 import com.aerospike.client.query.IndexType;
 import org.springframework.data.aerospike.query.FilterOperation;
 import org.springframework.data.aerospike.query.Qualifier;
+import org.springframework.data.aerospike.query.model.QueryPlan;
 import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
@@ -68,4 +69,13 @@ public interface AerospikeRepository<T, ID> extends PagingAndSortingRepository<T
      * @return Iterable of entities.
      */
     Iterable<T> findUsingQuery(Query query);
+
+    /**
+     * Describe how a query would be executed without executing it.
+     *
+     * @param query A query to be described. Must not be {@literal null}.
+     * @return Plan of the query.
+     * @see org.springframework.data.aerospike.core.AerospikeOperations#explain(Query, Class)
+     */
+    QueryPlan explain(Query query);
 }
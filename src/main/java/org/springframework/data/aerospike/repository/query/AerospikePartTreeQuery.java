@@ -15,6 +15,7 @@
  */
 package org.springframework.data.aerospike.repository.query;
 
+import com.aerospike.client.task.ExecuteTask;
 import org.springframework.data.aerospike.core.AerospikeOperations;
 import org.springframework.data.aerospike.core.AerospikeTemplate;
 import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
@@ -26,6 +27,7 @@ import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.parser.AbstractQueryCreator;
+import org.springframework.util.ClassUtils;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -34,6 +36,7 @@ import java.util.stream.Stream;
 import static org.springframework.data.aerospike.core.TemplateUtils.excludeIdQualifier;
 import static org.springframework.data.aerospike.core.TemplateUtils.getIdValue;
 import static org.springframework.data.aerospike.query.QualifierUtils.getIdQualifier;
+import static org.springframework.data.aerospike.query.QualifierUtils.queryCriteriaIsNotNull;
 
 /**
  * @author Peter Milne
@@ -50,6 +53,9 @@ public class AerospikePartTreeQuery extends BaseAerospikePartTreeQuery {
         super(queryMethod, evalContextProvider, queryCreator, (AerospikeMappingContext) operations.getMappingContext(),
             operations.getAerospikeConverter());
         this.operations = operations;
+        if (isDeleteQuery()) {
+            validateDeleteQueryReturnType();
+        }
     }
 
     @Override
@@ -59,6 +65,10 @@ public class AerospikePartTreeQuery extends BaseAerospikePartTreeQuery {
         Query query = prepareQuery(parameters, accessor);
         Class<?> targetClass = getTargetClass(accessor);
 
+        if (isDeleteQuery()) {
+            return deleteByQuery(query, parameters);
+        }
+
         // queries that include id have their own processing flow
         if (parameters != null && parameters.length > 0) {
             Qualifier criteria = query.getCriteriaObject();
@@ -90,6 +100,81 @@ public class AerospikePartTreeQuery extends BaseAerospikePartTreeQuery {
             "supported");
     }
 
+    /**
+     * Delete matching records. A method returning {@link ExecuteTask} starts a background task on the server and
+     * returns immediately, a void method waits for the task to complete. Methods returning the deleted documents or
+     * their number, as well as void methods with id criteria, limit, offset or sort, read the matching documents
+     * first and delete them by id.
+     */
+    private Object deleteByQuery(Query query, Object[] parameters) {
+        Class<?> returnType = queryMethod.getReturnedObjectType();
+        boolean hasIdCriteria = queryCriteriaIsNotNull(query) && getIdQualifier(query.getCriteriaObject()) != null;
+        if (ExecuteTask.class.isAssignableFrom(returnType)) {
+            return operations.deleteByQuery(query, entityClass);
+        }
+        if (isVoid(returnType) && !hasIdCriteria && !isLimitedOrSorted(query)) {
+            operations.deleteByQuery(query, entityClass).waitTillComplete();
+            return null;
+        }
+
+        List<?> documents = findDocumentsToDelete(query, parameters);
+        if (!documents.isEmpty()) {
+            operations.deleteAll(documents);
+        }
+        if (isVoid(returnType)) {
+            return null;
+        }
+        if (queryMethod.isCollectionQuery()) {
+            return documents;
+        }
+        if (Number.class.isAssignableFrom(ClassUtils.resolvePrimitiveIfNecessary(returnType))) {
+            return (long) documents.size();
+        }
+        return documents.isEmpty() ? null : documents.get(0);
+    }
+
+    private static boolean isLimitedOrSorted(Query query) {
+        return query.hasRows() || query.hasOffset() || (query.getSort() != null && query.getSort().isSorted());
+    }
+
+    private List<?> findDocumentsToDelete(Query query, Object[] parameters) {
+        if (parameters != null && parameters.length > 0) {
+            Qualifier criteria = query.getCriteriaObject();
+            if (criteria.hasSingleId()) {
+                return operations.findByIdsUsingQuery(getIdValue(criteria), entityClass, entityClass, null);
+            }
+            Qualifier idQualifier = getIdQualifier(criteria);
+            if (idQualifier != null) {
+                return operations.findByIdsUsingQuery(getIdValue(idQualifier), entityClass, entityClass,
+                    new Query(excludeIdQualifier(criteria)));
+            }
+        }
+        return operations.find(query, entityClass).toList();
+    }
+
+    /**
+     * Reject return types of derived delete methods that are not supported when the query method is created.
+     */
+    private void validateDeleteQueryReturnType() {
+        Class<?> returnType = queryMethod.getReturnedObjectType();
+        if (ExecuteTask.class.isAssignableFrom(returnType) && isLimitingOrSortedQuery()) {
+            throw new IllegalStateException("Delete query method " + queryMethod.getNamedQueryName() + " returning " +
+                "ExecuteTask must not have limit or sort");
+        }
+        if (ExecuteTask.class.isAssignableFrom(returnType) || isVoid(returnType)
+            || Number.class.isAssignableFrom(ClassUtils.resolvePrimitiveIfNecessary(returnType))
+            || ((queryMethod.isCollectionQuery() || queryMethod.isQueryForEntity())
+            && returnType.isAssignableFrom(entityClass))) {
+            return;
+        }
+        throw new IllegalStateException("Delete query method " + queryMethod.getNamedQueryName() + " must return " +
+            "void, ExecuteTask, a number, the deleted document or a collection of deleted documents");
+    }
+
+    private static boolean isVoid(Class<?> type) {
+        return type == void.class || type == Void.class;
+    }
+
     private Object processPaginatedQuery(Class<?> targetClass, Pageable pageable, Query query) {
         Stream<?> unprocessedResultsStream =
             operations.findUsingQueryWithoutPostProcessing(entityClass, targetClass, query);
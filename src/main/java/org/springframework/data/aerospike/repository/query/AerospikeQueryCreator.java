@@ -36,8 +36,11 @@ import org.springframework.util.StringUtils;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static org.springframework.data.aerospike.query.FilterOperation.*;
@@ -53,19 +56,46 @@ public class AerospikeQueryCreator extends AbstractQueryCreator<Query, CriteriaD
     private static final Logger LOG = LoggerFactory.getLogger(AerospikeQueryCreator.class);
     private final AerospikeMappingContext context;
     private final MappingAerospikeConverter converter;
+    private final Map<Part, AerospikePersistentProperty> properties;
 
     public AerospikeQueryCreator(PartTree tree, ParameterAccessor parameters,
                                  AerospikeMappingContext context, MappingAerospikeConverter converter) {
+        this(tree, parameters, context, converter, Collections.emptyMap());
+    }
+
+    /**
+     * @param properties Properties of the tree's parts resolved by {@link #resolveProperties(PartTree,
+     *                   AerospikeMappingContext)}, properties of other parts are resolved when the query is created
+     */
+    AerospikeQueryCreator(PartTree tree, ParameterAccessor parameters, AerospikeMappingContext context,
+                          MappingAerospikeConverter converter, Map<Part, AerospikePersistentProperty> properties) {
         super(tree, parameters);
         this.context = context;
         this.converter = converter;
+        this.properties = properties;
     }
 
-    @Override
-    protected CriteriaDefinition create(Part part, Iterator<Object> iterator) {
+    /**
+     * Resolve the leaf properties of the tree's parts, e.g. once per query method
+     */
+    static Map<Part, AerospikePersistentProperty> resolveProperties(PartTree tree, AerospikeMappingContext context) {
+        Map<Part, AerospikePersistentProperty> properties = new IdentityHashMap<>();
+        tree.getParts().forEach(part -> properties.put(part, getLeafProperty(part, context)));
+        return properties;
+    }
+
+    private static AerospikePersistentProperty getLeafProperty(Part part, AerospikeMappingContext context) {
         PersistentPropertyPath<AerospikePersistentProperty> path =
             context.getPersistentPropertyPath(part.getProperty());
-        AerospikePersistentProperty property = path.getLeafProperty();
+        return path.getLeafProperty();
+    }
+
+    @Override
+    protected CriteriaDefinition create(Part part, Iterator<Object> iterator) {
+        AerospikePersistentProperty property = properties.get(part);
+        if (property == null) {
+            property = getLeafProperty(part, context);
+        }
         return create(part, property, iterator);
     }
 
@@ -16,17 +16,18 @@
 package org.springframework.data.aerospike.repository.query;
 
 import org.springframework.beans.BeanUtils;
-import org.springframework.beans.support.PropertyComparator;
 import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.core.SortComparators;
 import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.mapping.AerospikePersistentProperty;
 import org.springframework.data.aerospike.query.Qualifier;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.parser.AbstractQueryCreator;
+import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.spel.standard.SpelExpression;
@@ -34,8 +35,12 @@ import org.springframework.util.ClassUtils;
 
 import java.lang.reflect.Constructor;
 import java.util.Comparator;
+import java.util.Map;
+import java.util.function.BiFunction;
 import java.util.stream.Stream;
 
+import static org.springframework.data.aerospike.core.CoreUtils.sortWithOffsetAndLimit;
+
 /**
  * @author Peter Milne
  * @author Jean Mercier
@@ -46,9 +51,11 @@ public abstract class BaseAerospikePartTreeQuery implements RepositoryQuery {
     protected final QueryMethod queryMethod;
     protected final Class<?> entityClass;
     private final QueryMethodEvaluationContextProvider evaluationContextProvider;
-    private final Class<? extends AbstractQueryCreator<?, ?>> queryCreator;
+    private final BiFunction<PartTree, ParameterAccessor, AbstractQueryCreator<?, ?>> queryCreatorFactory;
+    private final PartTree tree;
     private final AerospikeMappingContext context;
     private final MappingAerospikeConverter converter;
+    private final SortComparators sortComparators;
 
     protected BaseAerospikePartTreeQuery(QueryMethod queryMethod,
                                          QueryMethodEvaluationContextProvider evalContextProvider,
@@ -57,10 +64,27 @@ public abstract class BaseAerospikePartTreeQuery implements RepositoryQuery {
                                          MappingAerospikeConverter converter) {
         this.queryMethod = queryMethod;
         this.evaluationContextProvider = evalContextProvider;
-        this.queryCreator = queryCreator;
         this.entityClass = queryMethod.getEntityInformation().getJavaType();
         this.context = context;
         this.converter = converter;
+        this.sortComparators = new SortComparators(context);
+        // parsing method name and choosing how to instantiate the query creator once per query method
+        this.tree = new PartTree(queryMethod.getName(), entityClass);
+        this.queryCreatorFactory = getQueryCreatorFactory(queryCreator);
+    }
+
+    private BiFunction<PartTree, ParameterAccessor, AbstractQueryCreator<?, ?>> getQueryCreatorFactory(
+        Class<? extends AbstractQueryCreator<?, ?>> queryCreator) {
+        if (queryCreator == AerospikeQueryCreator.class) {
+            // the default query creator is instantiated directly, with the properties of the parts resolved once
+            Map<Part, AerospikePersistentProperty> properties = AerospikeQueryCreator.resolveProperties(tree, context);
+            return (partTree, accessor) -> new AerospikeQueryCreator(partTree, accessor, context, converter,
+                properties);
+        }
+        Constructor<? extends AbstractQueryCreator<?, ?>> constructor = ClassUtils.getConstructorIfAvailable(
+            queryCreator, PartTree.class, ParameterAccessor.class, AerospikeMappingContext.class,
+            MappingAerospikeConverter.class);
+        return (partTree, accessor) -> BeanUtils.instantiateClass(constructor, partTree, accessor, context, converter);
     }
 
     @Override
@@ -68,8 +92,21 @@ public abstract class BaseAerospikePartTreeQuery implements RepositoryQuery {
         return queryMethod;
     }
 
+    /**
+     * @return Whether the query method is a derived delete query, e.g. deleteByLastName
+     */
+    protected boolean isDeleteQuery() {
+        return tree.isDelete();
+    }
+
+    /**
+     * @return Whether the query method name contains a limit or sort, e.g. deleteFirstByLastNameOrderByAge
+     */
+    protected boolean isLimitingOrSortedQuery() {
+        return tree.isLimiting() || tree.getSort().isSorted();
+    }
+
     protected Query prepareQuery(Object[] parameters, ParametersParameterAccessor accessor) {
-        PartTree tree = new PartTree(queryMethod.getName(), entityClass);
         Query baseQuery = createQuery(accessor, tree);
 
         Qualifier criteria = baseQuery.getCriteriaObject();
@@ -118,17 +155,12 @@ public abstract class BaseAerospikePartTreeQuery implements RepositoryQuery {
     }
 
     public Query createQuery(ParametersParameterAccessor accessor, PartTree tree) {
-        Constructor<? extends AbstractQueryCreator<?, ?>> constructor = ClassUtils
-            .getConstructorIfAvailable(queryCreator, PartTree.class, ParameterAccessor.class,
-                AerospikeMappingContext.class, MappingAerospikeConverter.class);
-        return (Query) BeanUtils.instantiateClass(constructor, tree, accessor, context, converter)
-            .createQuery();
+        return (Query) queryCreatorFactory.apply(tree, accessor).createQuery();
     }
 
     protected <T> Stream<T> applyPostProcessing(Stream<T> results, Query query) {
         if (query.getSort() != null && query.getSort().isSorted()) {
-            Comparator<T> comparator = getComparator(query);
-            results = results.sorted(comparator);
+            return sortWithOffsetAndLimit(results, getComparator(query), query.getOffset(), query.getRows());
         }
         if (query.hasOffset()) {
             results = results.skip(query.getOffset());
@@ -141,15 +173,6 @@ public abstract class BaseAerospikePartTreeQuery implements RepositoryQuery {
     }
 
     protected <T> Comparator<T> getComparator(Query query) {
-        return query.getSort().stream()
-            .map(this::<T>getPropertyComparator)
-            .reduce(Comparator::thenComparing)
-            .orElseThrow(() -> new IllegalStateException("Comparator can not be created if sort orders are empty"));
-    }
-
-    private <T> Comparator<T> getPropertyComparator(Sort.Order order) {
-        boolean ignoreCase = true;
-        boolean ascending = order.getDirection().isAscending();
-        return new PropertyComparator<>(order.getProperty(), ignoreCase, ascending);
+        return sortComparators.getComparator(query.getSort());
     }
 }
@@ -17,6 +17,7 @@ package org.springframework.data.aerospike.repository.support;
 
 import com.aerospike.client.query.IndexType;
 import org.springframework.data.aerospike.core.AerospikeOperations;
+import org.springframework.data.aerospike.query.model.QueryPlan;
 import org.springframework.data.aerospike.repository.AerospikeRepository;
 import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.domain.Page;
@@ -160,4 +161,9 @@ public class SimpleAerospikeRepository<T, ID> implements AerospikeRepository<T,
     public Iterable<T> findUsingQuery(Query query) {
         return operations.find(query, entityInformation.getJavaType()).toList();
     }
+
+    @Override
+    public QueryPlan explain(Query query) {
+        return operations.explain(query, entityInformation.getJavaType());
+    }
 }
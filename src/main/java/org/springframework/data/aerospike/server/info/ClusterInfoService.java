@@ -0,0 +1,176 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.server.info;
+
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Info;
+import com.aerospike.client.cluster.Node;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.aerospike.core.AerospikeExecutors;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Sends info commands to the nodes of the cluster.
+ * <p>
+ * Commands sent together are batched into a single info request per node, and requests to all nodes are sent
+ * concurrently. Responses are cached per node and command for the TTL configured for the longest matching command
+ * prefix; commands without a TTL are not cached. Namespace configuration is cached for
+ * {@value #NAMESPACE_CONFIG_TTL_MILLIS} milliseconds by default.
+ */
+@Slf4j
+public class ClusterInfoService implements AutoCloseable {
+
+    public static final String NAMESPACE_CONFIG_COMMAND_PREFIX = "get-config:context=namespace;id=";
+    public static final String SETS_COMMAND_PREFIX = "sets/";
+    public static final String SINDEX_COMMAND_PREFIX = "sindex";
+    static final long NAMESPACE_CONFIG_TTL_MILLIS = 60_000;
+    private static final String ANY_NODE = "";
+
+    private final IAerospikeClient client;
+    private final Executor executor;
+    private final ExecutorService ownExecutor;
+    private final Map<String, Long> ttlNanosByCommandPrefix = new ConcurrentHashMap<>();
+    private final Map<CacheKey, CachedResponse> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Create a service sending requests to several nodes with its own executor, closed by {@link #close()}.
+     */
+    public ClusterInfoService(IAerospikeClient client) {
+        this(client, AerospikeExecutors.newExecutor("aerospike-info-", 16), true);
+    }
+
+    /**
+     * Create a service sending requests to several nodes with the given executor.
+     */
+    public ClusterInfoService(IAerospikeClient client, Executor executor) {
+        this(client, executor, false);
+    }
+
+    private ClusterInfoService(IAerospikeClient client, Executor executor, boolean ownExecutor) {
+        this.client = client;
+        this.executor = executor;
+        this.ownExecutor = ownExecutor ? (ExecutorService) executor : null;
+        setTtl(NAMESPACE_CONFIG_COMMAND_PREFIX, NAMESPACE_CONFIG_TTL_MILLIS);
+    }
+
+    /**
+     * Cache responses of commands starting with the given prefix.
+     *
+     * @param commandPrefix Prefix of info commands, e.g. {@value #SETS_COMMAND_PREFIX}
+     * @param ttlMillis     Time to cache responses for, non-positive value disables caching
+     */
+    public void setTtl(String commandPrefix, long ttlMillis) {
+        if (ttlMillis > 0) {
+            ttlNanosByCommandPrefix.put(commandPrefix, TimeUnit.MILLISECONDS.toNanos(ttlMillis));
+        } else {
+            ttlNanosByCommandPrefix.remove(commandPrefix);
+        }
+        invalidate(commandPrefix);
+    }
+
+    /**
+     * Remove cached responses of commands starting with the given prefix, e.g. after creating an index.
+     */
+    public void invalidate(String commandPrefix) {
+        cache.keySet().removeIf(key -> key.command().startsWith(commandPrefix));
+    }
+
+    /**
+     * Send commands to a random node in a single request.
+     *
+     * @return Responses by command
+     */
+    public Map<String, String> requestRandomNode(String... commands) {
+        return request(client.getCluster().getRandomNode(), ANY_NODE, commands);
+    }
+
+    /**
+     * Send commands to all nodes, in a single request per node, concurrently.
+     *
+     * @return Responses by command of each node, in the order of {@link IAerospikeClient#getNodes()}
+     */
+    public List<Map<String, String>> requestAllNodes(String... commands) {
+        return AerospikeExecutors.invokeAll(executor, Arrays.stream(client.getNodes())
+            .map(node -> (Supplier<Map<String, String>>) () -> request(node, node.getName(), commands))
+            .toList());
+    }
+
+    /**
+     * Shut down the executor created by this service, if any.
+     */
+    @Override
+    public void close() {
+        if (ownExecutor != null) {
+            ownExecutor.shutdown();
+        }
+    }
+
+    private Map<String, String> request(Node node, String cacheNode, String[] commands) {
+        long now = System.nanoTime();
+        Map<String, String> responses = new LinkedHashMap<>();
+        List<String> missingCommands = new ArrayList<>(commands.length);
+        for (String command : commands) {
+            CachedResponse cached = cache.get(new CacheKey(cacheNode, command));
+            if (cached != null && cached.expiresAt() - now > 0) {
+                responses.put(command, cached.response());
+            } else {
+                missingCommands.add(command);
+            }
+        }
+        if (missingCommands.isEmpty()) {
+            return responses;
+        }
+
+        log.trace("Sending info commands {} to node {}", missingCommands, node);
+        Map<String, String> received = Info.request(client.getInfoPolicyDefault(), node,
+            missingCommands.toArray(String[]::new));
+        for (String command : missingCommands) {
+            String response = received.get(command);
+            responses.put(command, response);
+            long ttlNanos = getTtlNanos(command);
+            if (response != null && ttlNanos > 0) {
+                cache.put(new CacheKey(cacheNode, command), new CachedResponse(response, now + ttlNanos));
+            }
+        }
+        return responses;
+    }
+
+    private long getTtlNanos(String command) {
+        String longestPrefix = null;
+        for (String prefix : ttlNanosByCommandPrefix.keySet()) {
+            if (command.startsWith(prefix) && (longestPrefix == null || prefix.length() > longestPrefix.length())) {
+                longestPrefix = prefix;
+            }
+        }
+        return longestPrefix == null ? 0 : ttlNanosByCommandPrefix.getOrDefault(longestPrefix, 0L);
+    }
+
+    private record CacheKey(String node, String command) {
+    }
+
+    private record CachedResponse(String response, long expiresAt) {
+    }
+}
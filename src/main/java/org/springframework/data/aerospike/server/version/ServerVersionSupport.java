@@ -1,9 +1,9 @@
 package org.springframework.data.aerospike.server.version;
 
 import com.aerospike.client.IAerospikeClient;
-import com.aerospike.client.Info;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.aerospike.server.info.ClusterInfoService;
 
 import java.lang.module.ModuleDescriptor;
 import java.util.concurrent.Executors;
@@ -18,13 +18,19 @@ public class ServerVersionSupport {
     private static final ModuleDescriptor.Version SERVER_VERSION_6_1_0_1 = ModuleDescriptor.Version.parse("6.1.0.1");
     private static final ModuleDescriptor.Version SERVER_VERSION_6_3_0_0 = ModuleDescriptor.Version.parse("6.3.0.0");
 
-    private final IAerospikeClient client;
+    private static final String VERSION_COMMAND = "version";
+
+    private final ClusterInfoService clusterInfoService;
     private final ScheduledExecutorService executorService;
     @Getter
     private volatile String serverVersion;
 
     public ServerVersionSupport(IAerospikeClient client) {
-        this.client = client;
+        this(new ClusterInfoService(client, Runnable::run));
+    }
+
+    public ServerVersionSupport(ClusterInfoService clusterInfoService) {
+        this.clusterInfoService = clusterInfoService;
         this.serverVersion = findServerVersion();
         this.executorService = Executors.newSingleThreadScheduledExecutor();
     }
@@ -38,8 +44,7 @@ public class ServerVersionSupport {
     }
 
     private String findServerVersion() {
-        String versionString = Info.request(client.getInfoPolicyDefault(),
-            client.getCluster().getRandomNode(), "version");
+        String versionString = clusterInfoService.requestRandomNode(VERSION_COMMAND).get(VERSION_COMMAND);
         versionString = versionString.substring(versionString.lastIndexOf(' ') + 1);
         log.debug("Found server version {}", versionString);
         return versionString;
@@ -59,10 +59,19 @@ public class Utils {
         Node randomNode = getRandomNode(nodes);
 
         String response = Info.request(randomNode, "get-config:context=namespace;id=" + namespace);
-        if (response.equalsIgnoreCase("ns_type=unknown")) {
+        return getReplicationFactor(response, namespace);
+    }
+
+    /**
+     * @param configResponse Response to the "get-config:context=namespace;id=" info command
+     * @param namespace      Namespace the configuration was requested for
+     * @return Replication factor of the namespace
+     */
+    public static int getReplicationFactor(String configResponse, String namespace) {
+        if (configResponse.equalsIgnoreCase("ns_type=unknown")) {
             throw new InvalidDataAccessResourceUsageException("Namespace: " + namespace + " does not exist");
         }
-        return InfoResponseUtils.getPropertyFromConfigResponse(response, "replication-factor", Integer::parseInt);
+        return InfoResponseUtils.getPropertyFromConfigResponse(configResponse, "replication-factor", Integer::parseInt);
     }
 
     public static Node getRandomNode(Node[] nodes) {
@@ -81,8 +90,16 @@ public class Utils {
     }
 
     public static long getObjectsCount(Node node, String namespace, String setName) {
-        String infoString = Info.request(node, "sets/" + namespace + "/" + setName);
-        if (infoString.isEmpty()) { // set is not present
+        return getObjectsCount(Info.request(node, "sets/" + namespace + "/" + setName));
+    }
+
+    /**
+     * @param setsResponse Response to the "sets/namespace/set" info command
+     * @return Amount of objects in the set, 0 if the set is not present
+     */
+    public static long getObjectsCount(String setsResponse) {
+        String infoString = setsResponse;
+        if (infoString == null || infoString.isEmpty()) { // set is not present
             return 0L;
         }
         return InfoResponseUtils.getPropertyFromInfoResponse(infoString, "objects", Long::parseLong);
@@ -15,18 +15,28 @@
  */
 package org.springframework.data.aerospike.cache;
 
+import com.aerospike.client.Bin;
 import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Key;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.Cache;
 import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
+import org.springframework.data.aerospike.cache.AerospikeCacheManagerIntegrationTests.CachedObject;
 import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
 import org.springframework.test.context.TestPropertySource;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.data.aerospike.query.cache.IndexRefresher.INDEX_CACHE_REFRESH_SECONDS;
@@ -96,4 +106,129 @@ public class AerospikeCacheManagerTests extends BaseBlockingIntegrationTests {
 
         assertThat(cache).isNotNull().isInstanceOf(TransactionAwareCacheDecorator.class);
     }
+
+    @Test
+    public void valueLoadedWithoutLockAfterLoadLockWaitTimeout() {
+        AerospikeCacheConfiguration aerospikeCacheConfiguration = new AerospikeCacheConfiguration(namespace,
+            DEFAULT_SET_NAME, 0, 0, 0, 60, 10, 100);
+        AerospikeCacheManager manager = new AerospikeCacheManager(client, converter, aerospikeCacheConfiguration);
+        manager.afterPropertiesSet();
+        Cache cache = manager.getCache("load-lock-cache");
+        // the lock of another instance that neither loads the value nor releases the lock
+        Key lockKey = new Key(namespace, DEFAULT_SET_NAME + "-lock", "locked-key");
+        client.put(null, lockKey, new Bin("lock", 1));
+
+        try {
+            assertThat(cache.get("locked-key", () -> new CachedObject("locked-key", "value")))
+                .extracting(CachedObject::getValue).isEqualTo("value");
+        } finally {
+            client.delete(null, lockKey);
+            cache.evict("locked-key");
+        }
+    }
+
+    @Test
+    public void localCacheInvalidatedByOtherManager() {
+        AerospikeCacheConfiguration aerospikeCacheConfiguration = new AerospikeCacheConfiguration(namespace,
+            DEFAULT_SET_NAME, 0, 100, 0);
+        AerospikeCacheManager manager1 = new AerospikeCacheManager(client, converter, aerospikeCacheConfiguration);
+        manager1.setLocalCacheInvalidation(new VersionRecordInvalidation(client, 0));
+        manager1.afterPropertiesSet();
+        AerospikeCacheManager manager2 = new AerospikeCacheManager(client, converter, aerospikeCacheConfiguration);
+        manager2.setLocalCacheInvalidation(new VersionRecordInvalidation(client, 0));
+        manager2.afterPropertiesSet();
+        Cache cache1 = manager1.getCache("local-cache");
+        Cache cache2 = manager2.getCache("local-cache");
+
+        cache1.put("key", new CachedObject("key", "value"));
+        assertThat(cache2.get("key", CachedObject.class)).extracting(CachedObject::getValue).isEqualTo("value");
+
+        cache1.evict("key");
+        assertThat(cache2.get("key", CachedObject.class)).isNull();
+    }
+
+    @Test
+    public void localCacheInvalidatedOnlyForKeysChangedByConcurrentWriters() throws Exception {
+        AerospikeCacheConfiguration aerospikeCacheConfiguration = new AerospikeCacheConfiguration(namespace,
+            DEFAULT_SET_NAME, 0, 100, 0);
+        AerospikeCacheManager manager1 = new AerospikeCacheManager(client, converter, aerospikeCacheConfiguration);
+        manager1.setLocalCacheInvalidation(new VersionRecordInvalidation(client, 0));
+        manager1.afterPropertiesSet();
+        AerospikeCacheManager manager2 = new AerospikeCacheManager(client, converter, aerospikeCacheConfiguration);
+        manager2.setLocalCacheInvalidation(new VersionRecordInvalidation(client, 0));
+        manager2.afterPropertiesSet();
+        Cache writerCache = manager1.getCache("concurrent-local-cache");
+        Cache readerCache = manager2.getCache("concurrent-local-cache");
+        // writes to Aerospike only, without publishing changes
+        Cache storeOnlyCache = new AerospikeCache("concurrent-local-cache", client, converter,
+            new AerospikeCacheConfiguration(namespace, DEFAULT_SET_NAME));
+
+        writerCache.put("stable", new CachedObject("stable", "first"));
+        assertThat(readerCache.get("stable", CachedObject.class)).extracting(CachedObject::getValue)
+            .isEqualTo("first");
+        storeOnlyCache.put("stable", new CachedObject("stable", "second"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                String key = "key-" + i;
+                tasks.add(executor.submit(() -> {
+                    for (int j = 0; j < 25; j++) {
+                        writerCache.put(key, new CachedObject(key, "value-" + j));
+                    }
+                }));
+                tasks.add(executor.submit(() -> {
+                    for (int j = 0; j < 25; j++) {
+                        readerCache.get(key, CachedObject.class);
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // changes of other keys do not invalidate the locally cached value
+        assertThat(readerCache.get("stable", CachedObject.class)).extracting(CachedObject::getValue)
+            .isEqualTo("first");
+        for (int i = 0; i < 4; i++) {
+            assertThat(readerCache.get("key-" + i, CachedObject.class)).extracting(CachedObject::getValue)
+                .isEqualTo("value-24");
+            writerCache.evict("key-" + i);
+        }
+        writerCache.evict("stable");
+    }
+
+    @Test
+    public void valueLoaderCalledOnceForConcurrentGets() throws Exception {
+        AerospikeCacheConfiguration aerospikeCacheConfiguration = new AerospikeCacheConfiguration(namespace,
+            DEFAULT_SET_NAME, 0, 0, 0, 10, 10);
+        AerospikeCacheManager manager = new AerospikeCacheManager(client, converter, aerospikeCacheConfiguration);
+        manager.afterPropertiesSet();
+        Cache cache = manager.getCache("single-flight-cache");
+        cache.evict("key");
+        AtomicInteger noOfCalls = new AtomicInteger();
+        Callable<CachedObject> valueLoader = () -> {
+            noOfCalls.incrementAndGet();
+            Thread.sleep(200);
+            return new CachedObject("key", "value");
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<CachedObject>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> cache.get("key", valueLoader)));
+            }
+            for (Future<CachedObject> result : results) {
+                assertThat(result.get().getValue()).isEqualTo("value");
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(noOfCalls.get()).isEqualTo(1);
+    }
 }
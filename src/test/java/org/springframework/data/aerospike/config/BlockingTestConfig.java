@@ -70,6 +70,10 @@ public class BlockingTestConfig extends AbstractAerospikeDataConfiguration {
         Optional<Integer> indexRefreshFrequency = getIntegerProperty(env.getProperty(INDEX_CACHE_REFRESH_SECONDS));
         indexRefreshFrequency.ifPresent(builder::indexCacheRefreshSeconds);
         builder.queryMaxRecords(5000L);
+        getIntegerProperty(env.getProperty("batchReadConcurrency")).ifPresent(builder::batchReadConcurrency);
+        getIntegerProperty(env.getProperty("batchWriteConcurrency")).ifPresent(builder::batchWriteConcurrency);
+        getIntegerProperty(env.getProperty("findByIdBatchWindowMicros"))
+            .ifPresent(builder::findByIdBatchWindowMicros);
     }
 
     @Override
@@ -98,6 +98,9 @@ public class ReactiveTestConfig extends AbstractReactiveAerospikeDataConfigurati
         Optional<Integer> indexRefreshFrequency = getIntegerProperty(env.getProperty(INDEX_CACHE_REFRESH_SECONDS));
         indexRefreshFrequency.ifPresent(builder::indexCacheRefreshSeconds);
         builder.queryMaxRecords(5000L);
+        getIntegerProperty(env.getProperty("batchReadConcurrency")).ifPresent(builder::batchReadConcurrency);
+        getIntegerProperty(env.getProperty("findByIdBatchWindowMicros"))
+            .ifPresent(builder::findByIdBatchWindowMicros);
     }
 
     @Bean
@@ -0,0 +1,77 @@
+package org.springframework.data.aerospike.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AerospikeExecutorsTest {
+
+    private final ExecutorService executor = AerospikeExecutors.newExecutor("test-", 4);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldReturnResultsInOrderOfCalls() {
+        List<Supplier<Integer>> calls = List.of(() -> 1, () -> 2, () -> 3);
+
+        assertThat(AerospikeExecutors.invokeAll(executor, calls)).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void shouldRunCallsConcurrently() {
+        CountDownLatch latch = new CountDownLatch(3);
+        Supplier<Boolean> call = () -> {
+            latch.countDown();
+            try {
+                return latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        };
+
+        assertThat(AerospikeExecutors.invokeAll(executor, List.of(call, call, call))).containsOnly(true);
+    }
+
+    @Test
+    void shouldRunSingleCallOnCallerThread() {
+        Thread caller = Thread.currentThread();
+        List<Supplier<Thread>> calls = List.of(Thread::currentThread);
+
+        assertThat(AerospikeExecutors.invokeAll(executor, calls)).containsExactly(caller);
+    }
+
+    @Test
+    void shouldRethrowExceptionOfFailedCall() {
+        List<Supplier<Integer>> calls = List.of(() -> 1, () -> {
+            throw new IllegalStateException("failed");
+        });
+
+        assertThatThrownBy(() -> AerospikeExecutors.invokeAll(executor, calls))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("failed");
+    }
+
+    @Test
+    void shouldBoundPlatformThreadPool() {
+        ExecutorService threadPool = AerospikeExecutors.newThreadPool("test-pool-", 2);
+        try {
+            assertThat(threadPool).isInstanceOfSatisfying(ThreadPoolExecutor.class,
+                pool -> assertThat(pool.getMaximumPoolSize()).isEqualTo(2));
+        } finally {
+            threadPool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package org.springframework.data.aerospike.core;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
+import org.springframework.data.aerospike.sample.Person;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.aerospike.query.cache.IndexRefresher.INDEX_CACHE_REFRESH_SECONDS;
+
+@TestPropertySource(properties = {INDEX_CACHE_REFRESH_SECONDS + " = 0", "createIndexesOnStartup = false",
+    "findByIdBatchWindowMicros = 200"})
+// this test class does not require secondary indexes created on startup
+public class AerospikeTemplateBatchedFindByIdTests extends BaseBlockingIntegrationTests {
+
+    @Test
+    public void findById_shouldReturnOwnDocumentToConcurrentCallers() {
+        List<Person> persons = IntStream.range(0, 50)
+            .mapToObj(i -> Person.builder().id(nextId()).firstName("name" + i).build())
+            .toList();
+        template.saveAll(persons);
+
+        List<CompletableFuture<Person>> found = persons.stream()
+            .map(person -> CompletableFuture.supplyAsync(() -> template.findById(person.getId(), Person.class)))
+            .toList();
+
+        assertThat(found.stream().map(CompletableFuture::join).toList()).containsExactlyElementsOf(persons);
+        template.deleteAll(persons); // cleanup
+    }
+
+    @Test
+    public void findById_shouldReturnNullForNonExistingKey() {
+        assertThat(template.findById("person-non-existing-key", Person.class)).isNull();
+    }
+}
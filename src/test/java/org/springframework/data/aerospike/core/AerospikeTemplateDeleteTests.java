@@ -23,6 +23,7 @@ import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
 import org.springframework.data.aerospike.core.model.GroupedKeys;
 import org.springframework.data.aerospike.query.FilterOperation;
+import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.aerospike.sample.Customer;
 import org.springframework.data.aerospike.sample.Person;
 import org.springframework.data.aerospike.sample.SampleClasses.CollectionOfObjects;
@@ -30,12 +31,15 @@ import org.springframework.data.aerospike.sample.SampleClasses.CustomCollectionC
 import org.springframework.data.aerospike.sample.SampleClasses.DocumentWithExpiration;
 import org.springframework.data.aerospike.sample.SampleClasses.VersionedClass;
 import org.springframework.data.aerospike.utility.AwaitilityUtils;
+import org.springframework.data.aerospike.utility.QueryUtils;
 import org.springframework.test.context.TestPropertySource;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -431,4 +435,65 @@ public class AerospikeTemplateDeleteTests extends BaseBlockingIntegrationTests {
                 .hasMessageContaining("Failed to delete the record with ID 'id2' due to versions mismatch");
         }
     }
+
+    @Test
+    public void deleteByQuery_deletesMatchingDocumentsOnServer() {
+        Person first = Person.builder().id(nextId()).firstName("Retention").lastName("First").age(21).build();
+        Person second = Person.builder().id(nextId()).firstName("Retention").lastName("Second").age(22).build();
+        Person kept = Person.builder().id(nextId()).firstName("Kept").lastName("Third").age(23).build();
+        List.of(first, second, kept).forEach(template::insert);
+
+        Query query = QueryUtils.createQueryForMethodWithArgs("findByFirstName", "Retention");
+        template.deleteByQuery(query, Person.class).waitTillComplete();
+
+        assertThat(template.findById(first.getId(), Person.class)).isNull();
+        assertThat(template.findById(second.getId(), Person.class)).isNull();
+        assertThat(template.findById(kept.getId(), Person.class)).isEqualTo(kept);
+    }
+
+    @Test
+    public void updateByQuery_setsBinsOfMatchingDocumentsOnServer() {
+        Person first = Person.builder().id(nextId()).firstName("Patch").lastName("First").age(21).build();
+        Person kept = Person.builder().id(nextId()).firstName("Kept").lastName("Second").age(22).build();
+        List.of(first, kept).forEach(template::insert);
+
+        Query query = QueryUtils.createQueryForMethodWithArgs("findByFirstName", "Patch");
+        template.updateByQuery(query, Person.class, Map.of("age", 50)).waitTillComplete();
+
+        assertThat(template.findById(first.getId(), Person.class).getAge()).isEqualTo(50);
+        assertThat(template.findById(kept.getId(), Person.class).getAge()).isEqualTo(22);
+    }
+
+    @Test
+    public void updateByQuery_convertsValuesAsSave() {
+        Person person = Person.builder().id(nextId()).firstName("Convert").lastName("First").age(21).build();
+        template.insert(person);
+
+        Query query = QueryUtils.createQueryForMethodWithArgs("findByFirstName", "Convert");
+        LocalDate regDate = LocalDate.of(2024, 1, 31);
+        template.updateByQuery(query, Person.class, Map.of("sex", Person.Sex.FEMALE, "regDate", regDate))
+            .waitTillComplete();
+
+        Person updated = template.findById(person.getId(), Person.class);
+        assertThat(updated.getSex()).isEqualTo(Person.Sex.FEMALE);
+        assertThat(updated.getRegDate()).isEqualTo(regDate);
+    }
+
+    @Test
+    public void deleteByQuery_rejectsQueryWithId() {
+        Query query = QueryUtils.createQueryForMethodWithArgs("findPersonSomeFieldsById", id);
+
+        assertThatThrownBy(() -> template.deleteByQuery(query, Person.class))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Queries with id are not supported by background operations");
+    }
+
+    @Test
+    public void deleteByQuery_rejectsLimitedQuery() {
+        Query query = QueryUtils.createQueryForMethodWithArgs("findByFirstName", "Retention").limit(10);
+
+        assertThatThrownBy(() -> template.deleteByQuery(query, Person.class))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Queries with limit, offset or sort are not supported by background operations");
+    }
 }
@@ -17,7 +17,9 @@ package org.springframework.data.aerospike.core;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
+import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.aerospike.sample.Person;
+import org.springframework.data.aerospike.utility.QueryUtils;
 import org.springframework.test.context.TestPropertySource;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -54,4 +56,32 @@ public class AerospikeTemplateExistsTests extends BaseBlockingIntegrationTests {
     public void existsWithSetName_shouldReturnFalseIfValueIsAbsent() {
         assertThat(template.exists(id, OVERRIDE_SET_NAME)).isFalse();
     }
+
+    @Test
+    public void existsByQuery_shouldReturnWhetherMatchingRecordsExist() {
+        Person one = Person.builder().id(id).firstName("Exists").lastName("One").build();
+        template.insert(one);
+
+        assertThat(template.existsByQuery(QueryUtils.createQueryForMethodWithArgs("findByFirstName", "Exists"),
+            Person.class)).isTrue();
+        assertThat(template.existsByQuery(QueryUtils.createQueryForMethodWithArgs("findByFirstName", "Absent"),
+            Person.class)).isFalse();
+        template.delete(one);
+    }
+
+    @Test
+    public void existsByQuery_shouldSkipOffset() {
+        Person one = Person.builder().id(id).firstName("Offset").lastName("One").build();
+        Person two = Person.builder().id(nextId()).firstName("Offset").lastName("Two").build();
+        template.insert(one);
+        template.insert(two);
+
+        Query query = QueryUtils.createQueryForMethodWithArgs("findByFirstName", "Offset");
+        query.setOffset(1);
+        assertThat(template.existsByQuery(query, Person.class)).isTrue();
+        query.setOffset(2);
+        assertThat(template.existsByQuery(query, Person.class)).isFalse();
+        template.delete(one);
+        template.delete(two);
+    }
 }
@@ -27,6 +27,8 @@ import org.springframework.data.aerospike.sample.SampleClasses;
 import org.springframework.data.aerospike.sample.SampleClasses.DocumentWithTouchOnRead;
 import org.springframework.data.aerospike.sample.SampleClasses.MapWithDoubleId;
 import org.springframework.data.aerospike.sample.SampleClasses.MapWithIntegerId;
+import org.springframework.data.aerospike.sample.SampleClasses.NearCachedDocument;
+import org.springframework.data.aerospike.sample.SampleClasses.ValidatedNearCachedDocument;
 import org.springframework.data.aerospike.sample.SampleClasses.VersionedClassWithAllArgsConstructor;
 import org.springframework.test.context.TestPropertySource;
 
@@ -34,6 +36,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -92,6 +96,49 @@ public class AerospikeTemplateFindByIdTests extends BaseBlockingIntegrationTests
         template.delete(actual); // cleanup
     }
 
+    @Test
+    public void findById_shouldReturnNearCachedDocumentUntilUpdatedByTemplate() {
+        template.save(new NearCachedDocument(id, "first"));
+        NearCachedDocument first = template.findById(id, NearCachedDocument.class);
+        assertThat(first.getName()).isEqualTo("first");
+
+        // written bypassing the template, so the cached record is still returned
+        client.put(null, new Key(getNameSpace(), "NearCachedDocument", id), new Bin("name", "second"));
+        assertThat(template.findById(id, NearCachedDocument.class).getName()).isEqualTo("first");
+
+        template.save(new NearCachedDocument(id, "third"));
+        assertThat(template.findById(id, NearCachedDocument.class).getName()).isEqualTo("third");
+
+        template.delete(template.findById(id, NearCachedDocument.class)); // cleanup
+        assertThat(template.findById(id, NearCachedDocument.class)).isNull();
+    }
+
+    @Test
+    public void findById_shouldReturnOwnInstanceOfNearCachedDocumentToEachCaller() {
+        template.save(new NearCachedDocument(id, "first"));
+        NearCachedDocument first = template.findById(id, NearCachedDocument.class);
+        first.setName("modified");
+
+        NearCachedDocument second = template.findById(id, NearCachedDocument.class);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getName()).isEqualTo("first");
+
+        template.delete(second); // cleanup
+    }
+
+    @Test
+    public void findById_shouldValidateNearCachedDocumentByGeneration() {
+        template.save(new ValidatedNearCachedDocument(id, "first"));
+        ValidatedNearCachedDocument first = template.findById(id, ValidatedNearCachedDocument.class);
+        assertThat(template.findById(id, ValidatedNearCachedDocument.class)).isEqualTo(first);
+
+        client.put(null, new Key(getNameSpace(), "ValidatedNearCachedDocument", id), new Bin("name", "second"));
+        assertThat(template.findById(id, ValidatedNearCachedDocument.class).getName()).isEqualTo("second");
+
+        client.delete(null, new Key(getNameSpace(), "ValidatedNearCachedDocument", id));
+        assertThat(template.findById(id, ValidatedNearCachedDocument.class)).isNull();
+    }
+
     @Test
     public void findByIdFail() {
         Person person = new Person(id, "Oliver");
@@ -131,6 +178,28 @@ public class AerospikeTemplateFindByIdTests extends BaseBlockingIntegrationTests
         template.delete(secondPerson, OVERRIDE_SET_NAME); //cleanup
     }
 
+    @Test
+    public void findByIds_shouldFindExistingInSeveralBatches() {
+        List<Person> persons = IntStream.range(0, 350)
+            .mapToObj(i -> Person.builder().id(nextId()).firstName("name" + i).build())
+            .toList();
+        template.saveAll(persons);
+
+        List<String> ids = persons.stream().map(Person::getId).toList();
+        assertThat(template.findByIds(ids, Person.class)).containsExactlyElementsOf(persons);
+        try (Stream<Person> actual = template.findByIdsAsStream(ids, Person.class)) {
+            assertThat(actual).containsExactlyElementsOf(persons);
+        }
+        template.deleteAll(persons); // cleanup
+    }
+
+    @Test
+    public void findByIdsAsStream_shouldReturnEmptyStream() {
+        try (Stream<Person> actual = template.findByIdsAsStream(Collections.emptyList(), Person.class)) {
+            assertThat(actual).isEmpty();
+        }
+    }
+
     @Test
     public void findByIds_shouldReturnEmptyList() {
         List<Person> actual = template.findByIds(Collections.emptyList(), Person.class);
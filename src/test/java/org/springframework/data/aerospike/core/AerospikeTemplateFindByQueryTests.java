@@ -18,6 +18,7 @@ package org.springframework.data.aerospike.core;
 import com.aerospike.client.Value;
 import com.aerospike.client.query.Filter;
 import com.aerospike.client.query.IndexType;
+import com.aerospike.client.query.KeyRecord;
 import com.aerospike.client.query.RecordSet;
 import com.aerospike.client.query.Statement;
 import org.junit.jupiter.api.AfterAll;
@@ -570,4 +571,29 @@ public class AerospikeTemplateFindByQueryTests extends BaseBlockingIntegrationTe
         template.delete(doc1); // cleanup
         template.delete(doc2); // cleanup
     }
+
+    @Test
+    public void streamRecordsReadsOnlyRequestedBins() {
+        Query query = QueryUtils.createQueryForMethodWithArgs("findByFirstName", "Dave");
+
+        try (Stream<KeyRecord> result = template.streamRecords(query, template.getSetName(Person.class), "age")) {
+            assertThat(result.toList())
+                .hasSize(1)
+                .allSatisfy(keyRecord -> assertThat(keyRecord.record.bins)
+                    .containsOnlyKeys("age")
+                    .containsEntry("age", 24L));
+        }
+    }
+
+    @Test
+    public void streamRecordsWithSetNameAndRows() {
+        Query query = QueryUtils.createQueryForMethodWithArgs("findByLastName", "Matthews");
+        query.limit(3);
+
+        try (Stream<KeyRecord> result = template.streamRecords(query, OVERRIDE_SET_NAME, "firstName")) {
+            assertThat(result.map(keyRecord -> keyRecord.record.getString("firstName")))
+                .hasSize(3)
+                .isSubsetOf(allPersons.stream().map(Person::getFirstName).toList());
+        }
+    }
 }
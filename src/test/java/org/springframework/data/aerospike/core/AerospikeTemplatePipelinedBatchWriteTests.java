@@ -0,0 +1,63 @@
+package org.springframework.data.aerospike.core;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.data.aerospike.query.cache.IndexRefresher.INDEX_CACHE_REFRESH_SECONDS;
+import static org.springframework.data.aerospike.sample.SampleClasses.VersionedClass;
+
+@TestPropertySource(properties = {INDEX_CACHE_REFRESH_SECONDS + " = 0", "createIndexesOnStartup = false",
+    "batchWriteConcurrency = 2"})
+// this test class does not require secondary indexes created on startup
+public class AerospikeTemplatePipelinedBatchWriteTests extends BaseBlockingIntegrationTests {
+
+    @Test
+    public void saveAll_shouldSaveInPipelinedBatchesAndSetVersion() {
+        // batch write operations are supported starting with Server version 6.0+
+        if (serverVersionSupport.batchWrite()) {
+            List<VersionedClass> documents = versionedDocuments(450);
+
+            template.saveAll(documents);
+            assertThat(documents).allSatisfy(document -> assertThat(document.getVersion()).isEqualTo(1));
+            template.saveAll(documents);
+            assertThat(documents).allSatisfy(document -> assertThat(document.getVersion()).isEqualTo(2));
+            List<String> ids = documents.stream().map(VersionedClass::getId).toList();
+            assertThat(template.findByIds(ids, VersionedClass.class)).hasSize(documents.size());
+
+            template.deleteAll(documents);
+            assertThat(template.findByIds(ids, VersionedClass.class)).isEmpty();
+        }
+    }
+
+    @Test
+    public void insertAll_shouldFailOnExistingDocumentInLaterBatch() {
+        // batch write operations are supported starting with Server version 6.0+
+        if (serverVersionSupport.batchWrite()) {
+            VersionedClass existing = new VersionedClass(nextId(), "foo");
+            template.insert(existing);
+            List<VersionedClass> documents = Stream.concat(versionedDocuments(250).stream(),
+                Stream.of(new VersionedClass(existing.getId(), "bar"))).toList();
+
+            assertThatThrownBy(() -> template.insertAll(documents))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+            // batches written before the failure are kept
+            assertThat(template.findById(documents.get(0).getId(), VersionedClass.class)).isNotNull();
+            List<String> ids = documents.stream().map(VersionedClass::getId).toList();
+            template.deleteByIds(ids, VersionedClass.class); // cleanup
+        }
+    }
+
+    private static List<VersionedClass> versionedDocuments(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> new VersionedClass(nextId(), "foo" + i))
+            .toList();
+    }
+}
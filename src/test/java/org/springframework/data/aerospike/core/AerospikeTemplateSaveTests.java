@@ -30,8 +30,10 @@ import org.springframework.data.aerospike.utility.AsyncUtils;
 import org.springframework.test.context.TestPropertySource;
 
 import java.math.BigInteger;
+import java.time.Instant;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
@@ -41,6 +43,8 @@ import static org.springframework.data.aerospike.sample.SampleClasses.CustomColl
 import static org.springframework.data.aerospike.sample.SampleClasses.DocumentWithByteArray;
 import static org.springframework.data.aerospike.sample.SampleClasses.DocumentWithTouchOnRead;
 import static org.springframework.data.aerospike.sample.SampleClasses.VersionedClass;
+import static org.springframework.data.aerospike.sample.SampleClasses.VersionedWriteBehindDocument;
+import static org.springframework.data.aerospike.sample.SampleClasses.WriteBehindDocument;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @TestPropertySource(properties = {INDEX_CACHE_REFRESH_SECONDS + " = 0", "createIndexesOnStartup = false"})
@@ -55,9 +59,52 @@ public class AerospikeTemplateSaveTests extends BaseBlockingIntegrationTests {
         template.deleteAll(Person.class);
         template.deleteAll(CustomCollectionClass.class);
         template.deleteAll(DocumentWithTouchOnRead.class);
+        template.deleteAll(WriteBehindDocument.class);
         template.deleteAll(OVERRIDE_SET_NAME);
     }
 
+    @Test
+    public void shouldCoalesceBufferedSavesOfTheSameKey() {
+        WriteBehindMetrics metrics = template.getWriteBehindMetrics();
+        long written = metrics.getWritten();
+        long coalesced = metrics.getCoalesced();
+
+        IntStream.rangeClosed(1, 10).forEach(i -> template.save(new WriteBehindDocument(id, i)));
+        template.flushWriteBehind();
+
+        assertThat(template.findById(id, WriteBehindDocument.class).getCounter()).isEqualTo(10);
+        assertThat(metrics.getCoalesced() - coalesced).isEqualTo(9);
+        assertThat(metrics.getWritten() - written).isEqualTo(1);
+        assertThat(metrics.getPending()).isZero();
+    }
+
+    @Test
+    public void shouldDiscardBufferedSaveOnDelete() {
+        template.save(new WriteBehindDocument(id, 1));
+        template.delete(new WriteBehindDocument(id, 1));
+        template.flushWriteBehind();
+
+        assertThat(template.findById(id, WriteBehindDocument.class)).isNull();
+    }
+
+    @Test
+    public void shouldKeepBufferedSaveOnDeleteAllBeforeLastUpdate() {
+        Instant beforeLastUpdate = Instant.now().minusSeconds(1);
+        template.save(new WriteBehindDocument(id, 1));
+
+        template.deleteAll(template.getSetName(WriteBehindDocument.class), beforeLastUpdate);
+
+        assertThat(template.getWriteBehindMetrics().getPending()).isZero();
+        assertThat(template.findById(id, WriteBehindDocument.class)).isEqualTo(new WriteBehindDocument(id, 1));
+    }
+
+    @Test
+    public void shouldRejectBufferedSaveOfVersionedDocument() {
+        assertThatThrownBy(() -> template.save(new VersionedWriteBehindDocument(id, 0)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Write behind is not supported for documents with version property");
+    }
+
     // test for RecordExistsAction.REPLACE_ONLY policy
     @Test
     public void shouldReplaceAllBinsPresentInAerospikeWhenSavingDocument() {
@@ -351,6 +398,24 @@ public class AerospikeTemplateSaveTests extends BaseBlockingIntegrationTests {
         template.delete(second); // cleanup
     }
 
+    @Test
+    public void shouldSaveAllInSeveralBatchesAndSetVersion() {
+        // batch write operations are supported starting with Server version 6.0+
+        if (serverVersionSupport.batchWrite()) {
+            List<VersionedClass> documents = IntStream.range(0, 450)
+                .mapToObj(i -> new VersionedClass(nextId(), "foo" + i))
+                .toList();
+
+            template.saveAll(documents);
+            assertThat(documents).allSatisfy(document -> assertThat(document.getVersion()).isEqualTo(1));
+            template.saveAll(documents);
+            assertThat(documents).allSatisfy(document -> assertThat(document.getVersion()).isEqualTo(2));
+            assertThat(template.findByIds(documents.stream().map(VersionedClass::getId).toList(),
+                VersionedClass.class)).hasSize(documents.size());
+            template.deleteAll(documents); // cleanup
+        }
+    }
+
     @Test
     public void shouldSaveAllAndSetVersionWithSetName() {
         VersionedClass first = new VersionedClass(id, "foo");
@@ -0,0 +1,68 @@
+package org.springframework.data.aerospike.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.aerospike.core.CoreUtils.sortWithOffsetAndLimit;
+
+public class CoreUtilsTest {
+
+    private static final List<Integer> VALUES = IntStream.range(0, 1000)
+        .mapToObj(i -> (i * 7919) % 1000)
+        .toList();
+
+    @Test
+    public void sortWithOffsetAndLimit_shouldReturnFirstElements() {
+        Stream<Integer> result = sortWithOffsetAndLimit(VALUES.stream(), Comparator.naturalOrder(), 0, 10);
+
+        assertThat(result).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    public void sortWithOffsetAndLimit_shouldApplyOffset() {
+        Stream<Integer> result = sortWithOffsetAndLimit(VALUES.stream(), Comparator.reverseOrder(), 20, 5);
+
+        assertThat(result).containsExactly(979, 978, 977, 976, 975);
+    }
+
+    @Test
+    public void sortWithOffsetAndLimit_shouldSortAllIfNoLimit() {
+        Stream<Integer> result = sortWithOffsetAndLimit(VALUES.stream(), Comparator.naturalOrder(), 995, -1);
+
+        assertThat(result).containsExactly(995, 996, 997, 998, 999);
+    }
+
+    @Test
+    public void sortWithOffsetAndLimit_shouldHandleOffsetBeyondResults() {
+        Stream<Integer> result = sortWithOffsetAndLimit(VALUES.stream(), Comparator.naturalOrder(), 2000, 10);
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void sortWithOffsetAndLimit_shouldPreserveOrderOfEqualElements() {
+        List<String> values = List.of("b1", "a1", "b2", "a2", "b3", "a3");
+        Comparator<String> byFirstChar = Comparator.comparing(value -> value.charAt(0));
+
+        Stream<String> result = sortWithOffsetAndLimit(values.stream(), byFirstChar, 1, 3);
+
+        assertThat(result).containsExactly("a2", "a3", "b1");
+    }
+
+    @Test
+    public void sortWithOffsetAndLimit_shouldCloseSourceStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Integer> source = VALUES.stream().onClose(() -> closed.set(true));
+
+        try (Stream<Integer> result = sortWithOffsetAndLimit(source, Comparator.naturalOrder(), 0, 1)) {
+            assertThat(result).containsExactly(0);
+        }
+        assertThat(closed).isTrue();
+    }
+}
@@ -0,0 +1,136 @@
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.query.KeyRecord;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExternalMergeSortTest {
+
+    private static final int RECORD_COUNT = 1000;
+
+    @Test
+    public void shouldSortInMemoryBelowThreshold() {
+        ExternalMergeSort<Long> sort = new ExternalMergeSort<>(Comparator.naturalOrder(), this::value,
+            2 * RECORD_COUNT);
+
+        try (Stream<Long> result = sort.sort(records())) {
+            assertThat(result).containsExactlyElementsOf(expectedValues());
+        }
+    }
+
+    @Test
+    public void shouldMergeRunsWrittenToDisk() {
+        ExternalMergeSort<Long> sort = new ExternalMergeSort<>(Comparator.naturalOrder(), this::value, 64);
+
+        try (Stream<Long> result = sort.sort(records())) {
+            assertThat(result).containsExactlyElementsOf(expectedValues());
+        }
+    }
+
+    @Test
+    public void shouldRestoreKeysAndBins() {
+        ExternalMergeSort<KeyRecord> sort = new ExternalMergeSort<>(
+            Comparator.comparing(keyRecord -> keyRecord.record.getLong("value")), keyRecord -> keyRecord, 10);
+
+        try (Stream<KeyRecord> result = sort.sort(records())) {
+            assertThat(result).allSatisfy(keyRecord -> {
+                assertThat(keyRecord.key.userKey.toString()).isEqualTo("id" + keyRecord.record.getLong("value"));
+                assertThat(keyRecord.key.namespace).isEqualTo("test");
+                assertThat(keyRecord.record.generation).isEqualTo(1);
+                assertThat(keyRecord.record.getString("name"))
+                    .isEqualTo("name" + keyRecord.record.getLong("value"));
+            });
+        }
+    }
+
+    @Test
+    public void shouldPreserveOrderOfEqualElements() {
+        ExternalMergeSort<KeyRecord> sort = new ExternalMergeSort<>(
+            Comparator.comparing(keyRecord -> keyRecord.record.getLong("value") % 2), keyRecord -> keyRecord, 7);
+
+        try (Stream<KeyRecord> result = sort.sort(records())) {
+            List<Long> values = result.map(keyRecord -> keyRecord.record.getLong("value")).toList();
+            List<Long> expected = Stream.concat(
+                    sourceValues().stream().filter(value -> value % 2 == 0),
+                    sourceValues().stream().filter(value -> value % 2 == 1))
+                .toList();
+            assertThat(values).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    public void shouldCloseSourceStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        ExternalMergeSort<Long> sort = new ExternalMergeSort<>(Comparator.naturalOrder(), this::value, 64);
+
+        try (Stream<Long> result = sort.sort(records().onClose(() -> closed.set(true)))) {
+            assertThat(result.findFirst()).hasValue(0L);
+        }
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    public void shouldMapRecordsSortedInMemoryOnce() {
+        AtomicInteger mapped = new AtomicInteger();
+        ExternalMergeSort<Long> sort = new ExternalMergeSort<>(Comparator.naturalOrder(), keyRecord -> {
+            mapped.incrementAndGet();
+            return value(keyRecord);
+        }, 2 * RECORD_COUNT);
+
+        try (Stream<Long> result = sort.sort(records())) {
+            assertThat(result).containsExactlyElementsOf(expectedValues());
+        }
+        assertThat(mapped).hasValue(RECORD_COUNT);
+    }
+
+    @Test
+    public void shouldRemoveRunFilesWhenFullyConsumedWithoutClosing() throws IOException {
+        ExternalMergeSort<Long> sort = new ExternalMergeSort<>(Comparator.naturalOrder(), this::value, 64);
+        long runFilesBefore = countRunFiles();
+
+        List<Long> result = sort.sort(records()).toList();
+
+        assertThat(result).containsExactlyElementsOf(expectedValues());
+        assertThat(countRunFiles()).isEqualTo(runFilesBefore);
+    }
+
+    private static long countRunFiles() throws IOException {
+        try (Stream<Path> files = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+            return files.filter(file -> file.getFileName().toString().startsWith("aerospike-sort-")).count();
+        }
+    }
+
+    private Long value(KeyRecord keyRecord) {
+        return keyRecord.record.getLong("value");
+    }
+
+    private static List<Long> sourceValues() {
+        return IntStream.range(0, RECORD_COUNT)
+            .mapToObj(i -> (long) ((i * 7919) % RECORD_COUNT))
+            .toList();
+    }
+
+    private static List<Long> expectedValues() {
+        return IntStream.range(0, RECORD_COUNT).mapToObj(i -> (long) i).toList();
+    }
+
+    private static Stream<KeyRecord> records() {
+        return sourceValues().stream()
+            .map(value -> new KeyRecord(new Key("test", "set", "id" + value),
+                new Record(Map.of("value", value, "name", "name" + value), 1, 0)));
+    }
+}
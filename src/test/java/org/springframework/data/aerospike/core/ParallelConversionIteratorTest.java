@@ -0,0 +1,94 @@
+package org.springframework.data.aerospike.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ParallelConversionIteratorTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldConvertInSourceOrderWhenOrdered() {
+        ParallelConversionIterator<Integer, String> iterator = new ParallelConversionIterator<>(source(1000),
+            String::valueOf, 16, 4, true, executor);
+
+        assertThat(drain(iterator)).containsExactlyElementsOf(
+            IntStream.range(0, 1000).mapToObj(String::valueOf).toList());
+    }
+
+    @Test
+    public void shouldConvertAllElementsWhenUnordered() {
+        ParallelConversionIterator<Integer, String> iterator = new ParallelConversionIterator<>(source(1000),
+            String::valueOf, 16, 4, false, executor);
+
+        assertThat(drain(iterator)).containsExactlyInAnyOrderElementsOf(
+            IntStream.range(0, 1000).mapToObj(String::valueOf).toList());
+    }
+
+    @Test
+    public void shouldConvertInExecutorThreads() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        ParallelConversionIterator<Integer, Integer> iterator = new ParallelConversionIterator<>(source(100),
+            element -> {
+                threads.add(Thread.currentThread().getName());
+                return element;
+            }, 10, 4, true, executor);
+
+        drain(iterator);
+        assertThat(threads).doesNotContain(Thread.currentThread().getName());
+    }
+
+    @Test
+    public void shouldPropagateConversionFailure() {
+        ParallelConversionIterator<Integer, Integer> iterator = new ParallelConversionIterator<>(source(100),
+            element -> {
+                if (element == 42) {
+                    throw new IllegalStateException("cannot convert " + element);
+                }
+                return element;
+            }, 10, 4, true, executor);
+
+        assertThatThrownBy(() -> drain(iterator))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("cannot convert 42");
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    public void shouldStopAfterClose() {
+        ParallelConversionIterator<Integer, Integer> iterator = new ParallelConversionIterator<>(source(100),
+            element -> element, 10, 4, true, executor);
+
+        assertThat(iterator.next()).isZero();
+        iterator.close();
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    private static Iterator<Integer> source(int size) {
+        return IntStream.range(0, size).boxed().collect(Collectors.toList()).iterator();
+    }
+
+    private static <T> List<T> drain(ParallelConversionIterator<?, T> iterator) {
+        List<T> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+        return result;
+    }
+}
@@ -0,0 +1,102 @@
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RecordBatcherTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final List<Key[]> batches = new ArrayList<>();
+
+    @AfterEach
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void shouldCombineReadsWithinWindowAndDeduplicateKeys() {
+        RecordBatcher batcher = new RecordBatcher(TimeUnit.MILLISECONDS.toNanos(100), 10, scheduler,
+            this::readGenerations);
+
+        CompletableFuture<Record> first = batcher.get(key(1));
+        CompletableFuture<Record> second = batcher.get(key(2));
+        CompletableFuture<Record> duplicate = batcher.get(key(1));
+
+        assertThat(first.join().generation).isEqualTo(1);
+        assertThat(second.join().generation).isEqualTo(2);
+        assertThat(duplicate).isSameAs(first);
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).containsExactly(key(1), key(2));
+    }
+
+    @Test
+    public void shouldSendBatchWhenFull() {
+        RecordBatcher batcher = new RecordBatcher(TimeUnit.SECONDS.toNanos(60), 2, scheduler,
+            this::readGenerations);
+
+        CompletableFuture<Record> first = batcher.get(key(1));
+        CompletableFuture<Record> second = batcher.get(key(2));
+
+        // sent without waiting for the window
+        assertThat(first).isCompleted();
+        assertThat(second.join().generation).isEqualTo(2);
+        assertThat(batches).hasSize(1);
+    }
+
+    @Test
+    public void shouldCompleteAllReadsOfFailedBatchExceptionally() {
+        RecordBatcher batcher = new RecordBatcher(TimeUnit.MILLISECONDS.toNanos(1), 10, scheduler,
+            keys -> CompletableFuture.failedFuture(new AerospikeException("failed")));
+
+        CompletableFuture<Record> first = batcher.get(key(1));
+        CompletableFuture<Record> second = batcher.get(key(2));
+
+        assertThatThrownBy(first::join).isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(AerospikeException.class);
+        assertThatThrownBy(second::join).isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(AerospikeException.class);
+    }
+
+    @Test
+    public void shouldSendOpenBatchOnCloseAndReadWithoutBatchingAfterwards() {
+        RecordBatcher batcher = new RecordBatcher(TimeUnit.SECONDS.toNanos(60), 10, scheduler,
+            this::readGenerations);
+
+        CompletableFuture<Record> beforeClose = batcher.get(key(1));
+        batcher.close();
+        CompletableFuture<Record> afterClose = batcher.get(key(2));
+
+        assertThat(beforeClose).isCompleted();
+        assertThat(afterClose.join().generation).isEqualTo(2);
+        assertThat(batches).hasSize(2);
+        assertThat(scheduler.isShutdown()).isTrue();
+    }
+
+    private synchronized CompletableFuture<Record[]> readGenerations(Key[] keys) {
+        batches.add(keys);
+        Record[] records = Arrays.stream(keys)
+            .map(key -> new Record(Map.of(), key.userKey.toInteger(), 0))
+            .toArray(Record[]::new);
+        return CompletableFuture.completedFuture(records);
+    }
+
+    private static Key key(int id) {
+        return new Key("test", "set", id);
+    }
+}
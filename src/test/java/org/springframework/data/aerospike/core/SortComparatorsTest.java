@@ -0,0 +1,81 @@
+package org.springframework.data.aerospike.core;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.sample.Address;
+import org.springframework.data.aerospike.sample.Person;
+import org.springframework.data.domain.Sort;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.domain.Sort.Order.asc;
+import static org.springframework.data.domain.Sort.Order.desc;
+
+public class SortComparatorsTest {
+
+    private final SortComparators sortComparators = new SortComparators(new AerospikeMappingContext());
+
+    private final Person dave = Person.builder().id("1").firstName("Dave").age(30)
+        .address(new Address("Foo Street", 1, "C0123", "Bar")).build();
+    private final Person ashley = Person.builder().id("2").firstName("ashley").age(30)
+        .address(new Address("Foo Street", 2, "C0124", "Aaa")).build();
+    private final Person carter = Person.builder().id("3").firstName("Carter").age(25).build();
+
+    @Test
+    public void shouldCompareIgnoringCase() {
+        Comparator<Person> comparator = sortComparators.getComparator(Sort.by(asc("firstName").ignoreCase()));
+
+        assertThat(sorted(comparator)).containsExactly(ashley, carter, dave);
+    }
+
+    @Test
+    public void shouldCompareCaseSensitivelyByDefault() {
+        Comparator<Person> comparator = sortComparators.getComparator(Sort.by(asc("firstName")));
+
+        assertThat(sorted(comparator)).containsExactly(carter, dave, ashley);
+    }
+
+    @Test
+    public void shouldConsiderNonComparableValuesEqual() {
+        Comparator<Person> comparator = sortComparators.getComparator(Sort.by(asc("address")));
+
+        assertThat(comparator.compare(dave, ashley)).isZero();
+    }
+
+    @Test
+    public void shouldCompareBySeveralOrders() {
+        Comparator<Person> comparator =
+            sortComparators.getComparator(Sort.by(desc("age"), asc("firstName").ignoreCase()));
+
+        assertThat(sorted(comparator)).containsExactly(ashley, dave, carter);
+    }
+
+    @Test
+    public void shouldCompareByNestedPropertyWithNullsLastByDefault() {
+        Comparator<Person> comparator = sortComparators.getComparator(Sort.by(asc("address.city")));
+
+        assertThat(sorted(comparator)).containsExactly(ashley, dave, carter);
+    }
+
+    @Test
+    public void shouldApplyNullHandling() {
+        Comparator<Person> nullsFirst = sortComparators.getComparator(Sort.by(asc("address.city").nullsFirst()));
+        Comparator<Person> descNullsLast = sortComparators.getComparator(Sort.by(desc("address.city").nullsLast()));
+
+        assertThat(sorted(nullsFirst)).containsExactly(carter, ashley, dave);
+        assertThat(sorted(descNullsLast)).containsExactly(dave, ashley, carter);
+    }
+
+    @Test
+    public void shouldCacheComparators() {
+        Sort sort = Sort.by(asc("firstName"));
+
+        assertThat(sortComparators.<Person>getComparator(sort)).isSameAs(sortComparators.getComparator(sort));
+    }
+
+    private List<Person> sorted(Comparator<Person> comparator) {
+        return List.of(dave, ashley, carter).stream().sorted(comparator).toList();
+    }
+}
@@ -0,0 +1,82 @@
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.BatchRecord;
+import com.aerospike.client.BatchWrite;
+import com.aerospike.client.Bin;
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class WriteBehindBufferTest {
+
+    private final IAerospikeClient client = mock(IAerospikeClient.class);
+    private final List<Key> writtenKeys = new CopyOnWriteArrayList<>();
+    private final WriteBehindBuffer buffer = new WriteBehindBuffer(client, 60_000, 100, 10,
+        keys -> writtenKeys.addAll(keys));
+
+    @AfterEach
+    public void close() {
+        buffer.close();
+    }
+
+    @Test
+    public void shouldDiscardOnlyRecordsOfTruncatedSet() {
+        buffer.add(batchRecord(key("set1", 1)));
+        buffer.add(batchRecord(key("set2", 2)));
+
+        buffer.discardSet("set1");
+        buffer.flush();
+
+        assertThat(writtenKeys).containsExactly(key("set2", 2));
+    }
+
+    @Test
+    public void shouldOnlyWaitForFlushWritingTheSameKey() throws Exception {
+        CountDownLatch flushStarted = new CountDownLatch(1);
+        CountDownLatch releaseFlush = new CountDownLatch(1);
+        when(client.operate(any(), any(List.class))).thenAnswer(invocation -> {
+            flushStarted.countDown();
+            releaseFlush.await();
+            return true;
+        });
+        buffer.add(batchRecord(key("set", 1)));
+        CompletableFuture<Void> flush = CompletableFuture.runAsync(buffer::flush);
+        assertThat(flushStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Void> otherKey = CompletableFuture.runAsync(() -> buffer.write(keys(key("set", 2))));
+        CompletableFuture<Void> flushedKey = CompletableFuture.runAsync(() -> buffer.write(keys(key("set", 1))));
+
+        otherKey.get(5, TimeUnit.SECONDS);
+        Thread.sleep(100);
+        assertThat(flushedKey).isNotDone();
+        releaseFlush.countDown();
+        flushedKey.get(5, TimeUnit.SECONDS);
+        flush.get(5, TimeUnit.SECONDS);
+    }
+
+    private static Collection<Key> keys(Key key) {
+        return List.of(key);
+    }
+
+    private static Key key(String setName, int id) {
+        return new Key("test", setName, id);
+    }
+
+    private static BatchRecord batchRecord(Key key) {
+        return new BatchWrite(key, new Operation[]{Operation.put(new Bin("bin", 1))});
+    }
+}
@@ -0,0 +1,45 @@
+package org.springframework.data.aerospike.core.reactive;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.BaseReactiveIntegrationTests;
+import org.springframework.data.aerospike.sample.Person;
+import org.springframework.test.context.TestPropertySource;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.aerospike.query.cache.IndexRefresher.INDEX_CACHE_REFRESH_SECONDS;
+
+@TestPropertySource(properties = {INDEX_CACHE_REFRESH_SECONDS + " = 0", "createIndexesOnStartup = false",
+    "findByIdBatchWindowMicros = 200"})
+// this test class does not require secondary indexes created on startup
+public class ReactiveAerospikeTemplateBatchedFindByIdTests extends BaseReactiveIntegrationTests {
+
+    @Test
+    public void findById_shouldReturnOwnDocumentToConcurrentSubscribers() {
+        List<Person> persons = IntStream.range(0, 50)
+            .mapToObj(i -> Person.builder().id(nextId()).firstName("name" + i).build())
+            .toList();
+        reactiveTemplate.saveAll(persons).blockLast();
+
+        List<Person> found = Flux.fromIterable(persons)
+            .flatMapSequential(person -> reactiveTemplate.findById(person.getId(), Person.class)
+                .subscribeOn(Schedulers.parallel()))
+            .collectList()
+            .block();
+
+        assertThat(found).containsExactlyElementsOf(persons);
+        reactiveTemplate.deleteAll(persons).block(); // cleanup
+    }
+
+    @Test
+    public void findById_shouldReturnEmptyForNonExistingKey() {
+        StepVerifier.create(reactiveTemplate.findById("person-non-existing-key", Person.class)
+                .subscribeOn(Schedulers.parallel()))
+            .expectNextCount(0).verifyComplete();
+    }
+}
@@ -0,0 +1,46 @@
+package org.springframework.data.aerospike.core.reactive;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.BaseReactiveIntegrationTests;
+import org.springframework.data.aerospike.sample.Person;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.aerospike.query.cache.IndexRefresher.INDEX_CACHE_REFRESH_SECONDS;
+
+@TestPropertySource(properties = {INDEX_CACHE_REFRESH_SECONDS + " = 0", "createIndexesOnStartup = false",
+    "batchReadConcurrency = 4"})
+// this test class does not require secondary indexes created on startup
+public class ReactiveAerospikeTemplateConcurrentBatchReadTests extends BaseReactiveIntegrationTests {
+
+    @Test
+    public void findByIds_shouldFindExistingInConcurrentBatchesInIdsOrder() {
+        List<Person> persons = IntStream.range(0, 450)
+            .mapToObj(i -> Person.builder().id(nextId()).firstName("name" + i).build())
+            .toList();
+        reactiveTemplate.saveAll(persons).blockLast();
+
+        List<String> ids = persons.stream().map(Person::getId).toList();
+        assertThat(reactiveTemplate.findByIds(ids, Person.class).collectList().block())
+            .containsExactlyElementsOf(persons);
+        reactiveTemplate.deleteAll(persons).block(); // cleanup
+    }
+
+    @Test
+    public void findByIds_shouldSkipNonExistingIdsInConcurrentBatches() {
+        List<Person> persons = IntStream.range(0, 250)
+            .mapToObj(i -> Person.builder().id(nextId()).firstName("name" + i).build())
+            .toList();
+        reactiveTemplate.saveAll(persons).blockLast();
+
+        List<String> ids = Stream.concat(Stream.of("person-non-existing-key"), persons.stream().map(Person::getId))
+            .toList();
+        assertThat(reactiveTemplate.findByIds(ids, Person.class).collectList().block())
+            .containsExactlyElementsOf(persons);
+        reactiveTemplate.deleteAll(persons).block(); // cleanup
+    }
+}
@@ -1,6 +1,7 @@
 package org.springframework.data.aerospike.core.reactive;
 
 import com.aerospike.client.query.IndexType;
+import com.aerospike.client.query.KeyRecord;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -734,4 +735,26 @@ public class ReactiveAerospikeTemplateFindByQueryTests extends BaseReactiveInteg
 
         deleteAll(persons); // cleanup
     }
+
+    @Test
+    public void streamRecords_readsOnlyRequestedBins() {
+        List<Person> persons = IntStream.rangeClosed(1, 5)
+            .mapToObj(age -> Person.builder().id(nextId()).firstName("Raw").lastName("Records").age(age).build())
+            .collect(Collectors.toList());
+        reactiveTemplate.insertAll(persons).blockLast();
+
+        Query query = QueryUtils.createQueryForMethodWithArgs("findByLastName", "Records");
+        List<KeyRecord> result = reactiveTemplate.streamRecords(query, reactiveTemplate.getSetName(Person.class),
+                "age")
+            .subscribeOn(Schedulers.parallel())
+            .collectList().block();
+
+        assertThat(result)
+            .hasSize(5)
+            .allSatisfy(keyRecord -> assertThat(keyRecord.record.bins).containsOnlyKeys("age"));
+        assertThat(result.stream().map(keyRecord -> keyRecord.record.getInt("age")))
+            .containsExactlyInAnyOrder(1, 2, 3, 4, 5);
+
+        deleteAll(persons); // cleanup
+    }
 }
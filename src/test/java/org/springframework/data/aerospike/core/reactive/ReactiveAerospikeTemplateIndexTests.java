@@ -78,7 +78,7 @@ public class ReactiveAerospikeTemplateIndexTests extends BaseReactiveIntegration
             .forEach(Mono::block);
 
         assertThat(errorsCount.get()).isLessThanOrEqualTo(4); // depending on the timing
-        assertThat(reactiveTemplate.indexExists(INDEX_TEST_1).toFuture().getNow(false)).isTrue();
+        assertThat(reactiveTemplate.indexExists(INDEX_TEST_1).block()).isTrue();
     }
 
     @Test
@@ -119,8 +119,8 @@ public class ReactiveAerospikeTemplateIndexTests extends BaseReactiveIntegration
             .block();
 
         awaitTenSecondsUntil(() -> {
-            assertThat(reactiveTemplate.indexExists(INDEX_TEST_1).toFuture().getNow(false)).isTrue();
-            assertThat(reactiveTemplate.indexExists(INDEX_TEST_2).toFuture().getNow(false)).isTrue();
+            assertThat(reactiveTemplate.indexExists(INDEX_TEST_1).block()).isTrue();
+            assertThat(reactiveTemplate.indexExists(INDEX_TEST_2).block()).isTrue();
         });
     }
 
@@ -134,8 +134,8 @@ public class ReactiveAerospikeTemplateIndexTests extends BaseReactiveIntegration
             .block();
 
         awaitTenSecondsUntil(() -> {
-            assertThat(reactiveTemplate.indexExists(INDEX_TEST_1).toFuture().getNow(false)).isTrue();
-            assertThat(reactiveTemplate.indexExists(INDEX_TEST_2).toFuture().getNow(false)).isTrue();
+            assertThat(reactiveTemplate.indexExists(INDEX_TEST_1).block()).isTrue();
+            assertThat(reactiveTemplate.indexExists(INDEX_TEST_2).block()).isTrue();
         });
     }
 
@@ -214,7 +214,7 @@ public class ReactiveAerospikeTemplateIndexTests extends BaseReactiveIntegration
     public void deleteIndex_deletesExistingIndex() {
         reactiveTemplate.createIndex(IndexedDocument.class, INDEX_TEST_1, "stringField", IndexType.STRING).block();
         reactiveTemplate.deleteIndex(IndexedDocument.class, INDEX_TEST_1).block();
-        assertThat(reactiveTemplate.indexExists(INDEX_TEST_1).toFuture().getNow(false)).isFalse();
+        assertThat(reactiveTemplate.indexExists(INDEX_TEST_1).block()).isFalse();
     }
 
     @Value
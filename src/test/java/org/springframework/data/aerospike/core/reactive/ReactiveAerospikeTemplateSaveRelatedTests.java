@@ -11,12 +11,14 @@ import org.springframework.data.aerospike.sample.SampleClasses.CustomCollectionC
 import org.springframework.data.aerospike.sample.SampleClasses.VersionedClass;
 import org.springframework.data.aerospike.utility.AsyncUtils;
 import org.springframework.test.context.TestPropertySource;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -288,6 +290,28 @@ public class ReactiveAerospikeTemplateSaveRelatedTests extends BaseReactiveInteg
         }
     }
 
+    @Test
+    public void saveAllPublisherWithSetName_shouldSaveAllDocumentsInOrder() {
+        // batch write operations are supported starting with Server version 6.0+
+        if (serverVersionSupport.batchWrite()) {
+            List<Person> customers = IntStream.range(0, 250)
+                .mapToObj(i -> new Person(nextId(), "Dave" + i))
+                .toList();
+
+            List<Person> saved = reactiveTemplate.saveAll(Flux.fromIterable(customers), OVERRIDE_SET_NAME)
+                .collectList().block();
+
+            assertThat(saved).containsExactlyElementsOf(customers);
+            assertThat(findById(customers.get(249).getId(), Person.class, OVERRIDE_SET_NAME))
+                .isEqualTo(customers.get(249));
+
+            List<String> ids = customers.stream().map(Person::getId).toList();
+            reactiveTemplate.deleteByIds(Flux.fromIterable(ids), OVERRIDE_SET_NAME).block();
+            assertThat(reactiveTemplate.findByIds(ids, Person.class, OVERRIDE_SET_NAME).collectList().block())
+                .isEmpty();
+        }
+    }
+
     @Test
     public void saveAll_rejectsDuplicateId() {
         // batch delete operations are supported starting with Server version 6.0+
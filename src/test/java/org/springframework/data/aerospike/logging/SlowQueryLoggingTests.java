@@ -0,0 +1,91 @@
+package org.springframework.data.aerospike.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.Value;
+import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.query.KeyRecord;
+import com.aerospike.client.query.RecordSet;
+import com.aerospike.client.query.Statement;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.aerospike.query.FilterExpressionsBuilder;
+import org.springframework.data.aerospike.query.FilterOperation;
+import org.springframework.data.aerospike.query.KeyRecordIterator;
+import org.springframework.data.aerospike.query.Qualifier;
+import org.springframework.data.aerospike.query.QueryEngine;
+import org.springframework.data.aerospike.query.SlowOperationLog;
+import org.springframework.data.aerospike.query.StatementBuilder;
+import org.springframework.data.aerospike.query.cache.IndexesCache;
+import org.springframework.data.aerospike.repository.query.Query;
+import org.springframework.data.aerospike.utility.MemoryAppender;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SlowQueryLoggingTests {
+
+    static String LOGGER_NAME = SlowOperationLog.class.getName();
+    static MemoryAppender memoryAppender;
+
+    @BeforeAll
+    public static void setup() {
+        Logger logger = (Logger) LoggerFactory.getLogger(LOGGER_NAME);
+        memoryAppender = new MemoryAppender();
+        memoryAppender.setContext((LoggerContext) LoggerFactory.getILoggerFactory());
+        logger.addAppender(memoryAppender);
+        memoryAppender.start();
+    }
+
+    @AfterAll
+    public static void cleanup() {
+        ((Logger) LoggerFactory.getLogger(LOGGER_NAME)).detachAppender(memoryAppender);
+    }
+
+    @Test
+    void slowQueryIsLoggedWithPlan() {
+        IAerospikeClient client = mock(IAerospikeClient.class);
+        RecordSet recordSet = mock(RecordSet.class);
+        when(client.getQueryPolicyDefault()).thenReturn(new QueryPolicy());
+        when(client.query(any(QueryPolicy.class), any(Statement.class))).thenReturn(recordSet);
+        when(recordSet.iterator()).thenReturn(List.of(keyRecord(1), keyRecord(2)).iterator());
+
+        QueryEngine queryEngine = new QueryEngine(client, new StatementBuilder(mock(IndexesCache.class)),
+            new FilterExpressionsBuilder());
+        queryEngine.setScansEnabled(true);
+        // log queries returning more than one record
+        queryEngine.setSlowOperationLog(new SlowOperationLog(0, 1, 0, 10));
+        Qualifier qualifier = Qualifier.builder()
+            .setField("firstName")
+            .setFilterOperation(FilterOperation.EQ)
+            .setValue1(Value.get("Dave"))
+            .build();
+
+        try (KeyRecordIterator iterator = queryEngine.select("TEST", "person", new Query(qualifier))) {
+            while (iterator.hasNext()) {
+                iterator.next();
+            }
+        }
+
+        assertThat(memoryAppender.search("Slow query on set person", Level.WARN)).singleElement()
+            .satisfies(event -> assertThat(event.getFormattedMessage())
+                .contains("2 records")
+                .contains("on TEST.person")
+                .contains("filter expression"));
+    }
+
+    private static KeyRecord keyRecord(int id) {
+        return new KeyRecord(new Key("TEST", "person", id), new Record(Map.of("firstName", "Dave"), 1, 0));
+    }
+}
@@ -0,0 +1,72 @@
+package org.springframework.data.aerospike.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.metrics.AerospikeMetrics.ConversionDirection;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MicrometerAerospikeMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MicrometerAerospikeMetrics metrics = new MicrometerAerospikeMetrics(registry);
+
+    @Test
+    void shouldRecordOperationsByOutcome() {
+        metrics.recordOperation("save", "person", TimeUnit.MILLISECONDS.toNanos(2), null);
+        metrics.recordOperation("save", "person", TimeUnit.MILLISECONDS.toNanos(4), null);
+        metrics.recordOperation("save", "person", TimeUnit.MILLISECONDS.toNanos(1), new IllegalStateException());
+
+        Timer success = registry.get(MicrometerAerospikeMetrics.OPERATION_TIMER)
+            .tags("operation", "save", "set", "person", "outcome", "success")
+            .timer();
+        assertThat(success.count()).isEqualTo(2);
+        assertThat(success.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(6);
+
+        Timer failure = registry.get(MicrometerAerospikeMetrics.OPERATION_TIMER)
+            .tags("operation", "save", "set", "person", "outcome", "IllegalStateException")
+            .timer();
+        assertThat(failure.count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecordBatchSizesAndQueryResults() {
+        metrics.recordBatchSize("saveAll", "person", 100);
+        metrics.recordBatchSize("saveAll", "person", 20);
+        metrics.recordQueryResults("person", 7);
+
+        DistributionSummary batchSize = registry.get(MicrometerAerospikeMetrics.BATCH_SIZE)
+            .tags("operation", "saveAll", "set", "person")
+            .summary();
+        assertThat(batchSize.count()).isEqualTo(2);
+        assertThat(batchSize.max()).isEqualTo(100);
+
+        DistributionSummary queryRecords = registry.get(MicrometerAerospikeMetrics.QUERY_RECORDS)
+            .tags("set", "person")
+            .summary();
+        assertThat(queryRecords.totalAmount()).isEqualTo(7);
+    }
+
+    @Test
+    void shouldRecordConversionsByDirectionAndType() {
+        metrics.recordConversion(ConversionDirection.READ, String.class, 1_000);
+        metrics.recordConversion(ConversionDirection.WRITE, String.class, 1_000);
+
+        assertThat(registry.get(MicrometerAerospikeMetrics.CONVERSION_TIMER)
+            .tags("direction", "read", "type", "String")
+            .timer().count()).isEqualTo(1);
+        assertThat(registry.get(MicrometerAerospikeMetrics.CONVERSION_TIMER)
+            .tags("direction", "write", "type", "String")
+            .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldBeDisabledByDefault() {
+        assertThat(AerospikeMetrics.NOOP.isEnabled()).isFalse();
+        assertThat(metrics.isEnabled()).isTrue();
+    }
+}
@@ -20,6 +20,7 @@ import com.aerospike.client.Value;
 import com.aerospike.client.query.IndexType;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.query.model.QueryPlan;
 import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.aerospike.utility.CollectionUtils;
 
@@ -27,6 +28,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.springframework.data.aerospike.query.QueryEngineTestDataPopulator.AGES;
 import static org.springframework.data.aerospike.query.QueryEngineTestDataPopulator.BLUE;
 import static org.springframework.data.aerospike.query.QueryEngineTestDataPopulator.GEO_BIN_NAME;
@@ -295,4 +297,48 @@ class IndexedQualifierTests extends BaseQueryEngineTests {
             tryDropIndex(INDEXED_SET_NAME, "color_index");
         }
     }
+
+    @Test
+    void explainQueryOnIndexedBin() {
+        withIndex(namespace, INDEXED_SET_NAME, "age_index", "age", IndexType.NUMERIC, () -> {
+            Qualifier qualifier = Qualifier.builder()
+                .setField("age")
+                .setFilterOperation(FilterOperation.EQ)
+                .setValue1(Value.get(26))
+                .build();
+
+            QueryPlan plan = queryEngine.explain(namespace, INDEXED_SET_NAME, null, new Query(qualifier));
+
+            assertThat(plan.getType()).isEqualTo(QueryPlan.Type.SECONDARY_INDEX);
+            assertThat(plan.getIndexBinName()).isEqualTo("age");
+            assertThat(plan.getCandidateIndexes())
+                .extracting(QueryPlan.IndexCandidate::indexName, QueryPlan.IndexCandidate::chosen)
+                .containsExactly(tuple("age_index", true));
+            assertThat(plan.getFilterExp()).isNull();
+        });
+    }
+
+    @Test
+    void explainQueryWithFilterExpressionOnNonIndexedBin() {
+        withIndex(namespace, INDEXED_SET_NAME, "age_index", "age", IndexType.NUMERIC, () -> {
+            Qualifier age = Qualifier.builder()
+                .setField("age")
+                .setFilterOperation(FilterOperation.EQ)
+                .setValue1(Value.get(26))
+                .build();
+            Qualifier color = Qualifier.builder()
+                .setField("color")
+                .setFilterOperation(FilterOperation.EQ)
+                .setValue1(Value.get(BLUE))
+                .build();
+
+            QueryPlan plan = queryEngine.explain(namespace, INDEXED_SET_NAME, null,
+                new Query(Qualifier.and(age, color)));
+
+            assertThat(plan.getType()).isEqualTo(QueryPlan.Type.SECONDARY_INDEX);
+            assertThat(plan.getIndexBinName()).isEqualTo("age");
+            assertThat(plan.getFilterExp()).isNotNull();
+            assertThat(plan.getFilterDescription()).contains("color");
+        });
+    }
 }
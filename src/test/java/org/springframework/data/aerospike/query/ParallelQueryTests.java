@@ -0,0 +1,82 @@
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.Value;
+import com.aerospike.client.query.PartitionFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.repository.query.Query;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.aerospike.query.QueryEngineTestDataPopulator.RECORD_COUNT;
+import static org.springframework.data.aerospike.query.QueryEngineTestDataPopulator.USERS_SET;
+
+class ParallelQueryTests extends BaseQueryEngineTests {
+
+    @AfterEach
+    void resetParallelism() {
+        queryEngine.setQueryParallelism(1);
+        queryEngine.setQueryParallelOrdered(false);
+    }
+
+    @Test
+    void partitionFiltersCoverAllPartitions() {
+        List<PartitionFilter> partitionFilters = QueryEngine.getPartitionFilters(3);
+
+        assertThat(partitionFilters).hasSize(3);
+        assertThat(partitionFilters.get(0).getBegin()).isZero();
+        assertThat(partitionFilters.stream().mapToInt(PartitionFilter::getCount).sum()).isEqualTo(4096);
+    }
+
+    @Test
+    void allUsersUnordered() {
+        queryEngine.setQueryParallelism(4);
+
+        try (KeyRecordIterator it = queryEngine.select(namespace, USERS_SET, null, null)) {
+            assertThat(it).toIterable().hasSize(RECORD_COUNT);
+        }
+    }
+
+    @Test
+    void allUsersOrdered() {
+        queryEngine.setQueryParallelism(4);
+        queryEngine.setQueryParallelOrdered(true);
+
+        try (KeyRecordIterator it = queryEngine.select(namespace, USERS_SET, null, null)) {
+            assertThat(it).toIterable().hasSize(RECORD_COUNT);
+        }
+    }
+
+    @Test
+    void usersInterrupted() {
+        queryEngine.setQueryParallelism(8);
+
+        try (KeyRecordIterator it = queryEngine.select(namespace, USERS_SET, null, null)) {
+            int counter = 0;
+            while (it.hasNext()) {
+                it.next();
+                counter++;
+                if (counter >= 100)
+                    break;
+            }
+            assertThat(counter).isEqualTo(100);
+        }
+    }
+
+    @Test
+    void usersInNorthRegion() {
+        queryEngine.setQueryParallelism(4);
+        Qualifier qualifier = Qualifier.builder()
+            .setField("region")
+            .setFilterOperation(FilterOperation.EQ)
+            .setValue1(Value.get("n"))
+            .build();
+
+        try (KeyRecordIterator it = queryEngine.select(namespace, USERS_SET, null, new Query(qualifier))) {
+            assertThat(it).toIterable()
+                .isNotEmpty()
+                .allSatisfy(rec -> assertThat(rec.record.getString("region")).isEqualTo("n"));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.query.PartitionFilter;
+import com.aerospike.client.query.RecordSet;
+import com.aerospike.client.query.Statement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.query.cache.IndexesCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class QueryEngineParallelTest {
+
+    private static final int QUERY_PARALLELISM = 2;
+
+    private final IAerospikeClient client = mock(IAerospikeClient.class);
+    private final QueryEngine queryEngine = new QueryEngine(client, new StatementBuilder(mock(IndexesCache.class)),
+        new FilterExpressionsBuilder());
+    private final List<KeyRecordIterator> abandoned = new ArrayList<>();
+
+    @AfterEach
+    public void close() {
+        abandoned.forEach(KeyRecordIterator::close);
+        queryEngine.close();
+    }
+
+    @Test
+    public void shouldRunUnorderedQueriesWhileEarlierOnesAreNotReadToTheEnd() {
+        QueryPolicy queryPolicy = new QueryPolicy();
+        queryPolicy.recordQueueSize = 1;
+        when(client.getQueryPolicyDefault()).thenReturn(queryPolicy);
+        when(client.queryPartitions(any(QueryPolicy.class), any(Statement.class), any(PartitionFilter.class)))
+            .thenAnswer(invocation -> endlessRecordSet());
+        queryEngine.setScansEnabled(true);
+        queryEngine.setQueryParallelism(QUERY_PARALLELISM);
+
+        // more partly read queries than a pool bounded by the processors could drain at once
+        int abandonedQueries = 4 * Runtime.getRuntime().availableProcessors();
+        for (int i = 0; i < abandonedQueries; i++) {
+            KeyRecordIterator iterator = queryEngine.select("TEST", "set", null);
+            iterator.next();
+            abandoned.add(iterator);
+        }
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            try (KeyRecordIterator iterator = queryEngine.select("TEST", "set", null)) {
+                for (int i = 0; i < 10; i++) {
+                    assertThat(iterator.next()).isNotNull();
+                }
+            }
+        });
+    }
+
+    private static RecordSet endlessRecordSet() {
+        RecordSet recordSet = mock(RecordSet.class);
+        when(recordSet.next()).thenReturn(true);
+        when(recordSet.getKey()).thenReturn(new Key("TEST", "set", 1));
+        when(recordSet.getRecord()).thenReturn(new Record(Map.of("bin", 1), 1, 0));
+        return recordSet;
+    }
+}
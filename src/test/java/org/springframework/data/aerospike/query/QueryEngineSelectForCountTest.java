@@ -0,0 +1,38 @@
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.query.RecordSet;
+import com.aerospike.client.query.Statement;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.aerospike.query.cache.IndexesCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class QueryEngineSelectForCountTest {
+
+    private final IAerospikeClient client = mock(IAerospikeClient.class);
+    private final QueryEngine queryEngine = new QueryEngine(client, new StatementBuilder(mock(IndexesCache.class)),
+        new FilterExpressionsBuilder());
+
+    @Test
+    public void shouldReadOnlyHeadersOfGivenNumberOfRecords() {
+        when(client.getQueryPolicyDefault()).thenReturn(new QueryPolicy());
+        when(client.query(any(QueryPolicy.class), any(Statement.class))).thenReturn(mock(RecordSet.class));
+        queryEngine.setScansEnabled(true);
+        queryEngine.setQueryMaxRecords(10_000);
+
+        queryEngine.selectForCount("TEST", "person", null, 1).close();
+
+        ArgumentCaptor<QueryPolicy> policy = ArgumentCaptor.forClass(QueryPolicy.class);
+        ArgumentCaptor<Statement> statement = ArgumentCaptor.forClass(Statement.class);
+        verify(client).query(policy.capture(), statement.capture());
+        assertThat(policy.getValue().includeBinData).isFalse();
+        assertThat(statement.getValue().getMaxRecords()).isEqualTo(1);
+    }
+}
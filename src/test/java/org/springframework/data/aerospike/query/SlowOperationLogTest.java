@@ -0,0 +1,63 @@
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.Record;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlowOperationLogTest {
+
+    @Test
+    void shouldNotMeasureWhenDisabled() {
+        assertThat(SlowOperationLog.DISABLED.isEnabled()).isFalse();
+        assertThat(SlowOperationLog.DISABLED.start("query", "person", () -> "details")).isNull();
+        assertThat(new SlowOperationLog(0, 0, 0, 10).isEnabled()).isFalse();
+        assertThat(new SlowOperationLog(100, 0, 0, 0).isEnabled()).isFalse();
+    }
+
+    @Test
+    void shouldMeasureWhenAnyThresholdIsSet() {
+        assertThat(new SlowOperationLog(100, 0, 0, 10).isEnabled()).isTrue();
+        assertThat(new SlowOperationLog(0, 1000, 0, 10).isEnabled()).isTrue();
+        assertThat(new SlowOperationLog(0, 0, 1 << 20, 10).isEnabled()).isTrue();
+        assertThat(new SlowOperationLog(100, 0, 0, 10).start("query", "person", () -> "details")).isNotNull();
+    }
+
+    @Test
+    void shouldEvaluateDetailsOnlyWhenLogging() {
+        SlowOperationLog slowOperationLog = new SlowOperationLog(0, 1, 0, 10);
+        int[] evaluations = new int[1];
+
+        SlowOperationLog.Measurement small = slowOperationLog.start("batchRead", "person", () -> evaluations[0]++);
+        small.onRecords(new Record[]{null, null});
+        small.finish();
+        assertThat(evaluations[0]).isZero();
+
+        SlowOperationLog.Measurement large = slowOperationLog.start("batchRead", "person", () -> evaluations[0]++);
+        large.onRecord(null);
+        large.onRecord(null);
+        large.finish();
+        large.finish();
+        assertThat(evaluations[0]).isEqualTo(1);
+    }
+
+    @Test
+    void shouldLimitEntriesPerSecond() {
+        long[] results = new long[4];
+        long startSecond;
+        long endSecond;
+        // retry if the calls span a second boundary
+        do {
+            SlowOperationLog slowOperationLog = new SlowOperationLog(1, 0, 0, 2);
+            startSecond = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+            for (int i = 0; i < results.length; i++) {
+                results[i] = slowOperationLog.tryAcquire();
+            }
+            endSecond = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        } while (startSecond != endSecond);
+
+        assertThat(results).containsExactly(0, 0, -1, -1);
+    }
+}
@@ -0,0 +1,78 @@
+package org.springframework.data.aerospike.query.reactive;
+
+import com.aerospike.client.Value;
+import com.aerospike.client.query.PartitionFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.query.FilterOperation;
+import org.springframework.data.aerospike.query.Qualifier;
+import org.springframework.data.aerospike.query.ReactorQueryEngine;
+import org.springframework.data.aerospike.repository.query.Query;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.aerospike.query.QueryEngineTestDataPopulator.RECORD_COUNT;
+import static org.springframework.data.aerospike.query.QueryEngineTestDataPopulator.USERS_SET;
+
+public class ReactiveParallelQueryTests extends BaseReactiveQueryEngineTests {
+
+    @AfterEach
+    public void resetParallelism() {
+        queryEngine.setQueryParallelism(1);
+        queryEngine.setQueryParallelOrdered(false);
+    }
+
+    @Test
+    public void allUsersUnordered() {
+        queryEngine.setQueryParallelism(4);
+
+        StepVerifier.create(queryEngine.select(namespace, USERS_SET, null, null))
+            .expectNextCount(RECORD_COUNT)
+            .verifyComplete();
+    }
+
+    @Test
+    public void allUsersOrdered() {
+        queryEngine.setQueryParallelism(4);
+        queryEngine.setQueryParallelOrdered(true);
+
+        StepVerifier.create(queryEngine.select(namespace, USERS_SET, null, null))
+            .expectNextCount(RECORD_COUNT)
+            .verifyComplete();
+    }
+
+    @Test
+    public void usersInNorthRegion() {
+        queryEngine.setQueryParallelism(4);
+        Qualifier qualifier = Qualifier.builder()
+            .setField("region")
+            .setFilterOperation(FilterOperation.EQ)
+            .setValue1(Value.get("n"))
+            .build();
+
+        StepVerifier.create(queryEngine.select(namespace, USERS_SET, null, new Query(qualifier)).collectList())
+            .expectNextMatches(results -> {
+                assertThat(results)
+                    .isNotEmpty()
+                    .allSatisfy(rec -> assertThat(rec.record.getString("region")).isEqualTo("n"));
+                return true;
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    public void partitionFiltersAreDoneAfterQuery() {
+        List<PartitionFilter> partitionFilters = ReactorQueryEngine.createPartitionFilters(4);
+
+        StepVerifier.create(queryEngine.select(namespace, USERS_SET, null, null, partitionFilters))
+            .expectNextCount(RECORD_COUNT)
+            .verifyComplete();
+        assertThat(partitionFilters).allMatch(PartitionFilter::isDone);
+
+        // selecting again with the same filters does not query ranges that are done
+        StepVerifier.create(queryEngine.select(namespace, USERS_SET, null, null, partitionFilters))
+            .verifyComplete();
+    }
+}
@@ -2387,4 +2387,56 @@ public class PersonRepositoryQueryTests extends BaseBlockingIntegrationTests {
             TestUtils.setFriendsToNull(repository, allPersons.toArray(Person[]::new));
         }
     }
+
+    @Test
+    void deleteByFirstName_deletesMatchingRecordsOnServer() {
+        Person first = Person.builder().id(nextId()).firstName("Temporary").lastName("First").age(51).build();
+        Person second = Person.builder().id(nextId()).firstName("Temporary").lastName("Second").age(52).build();
+        repository.save(first);
+        repository.save(second);
+
+        repository.deleteAllByFirstName("Temporary");
+
+        assertThat(repository.findById(first.getId())).isEmpty();
+        assertThat(repository.findById(second.getId())).isEmpty();
+        assertThat(repository.findAllById(allPersons.stream().map(Person::getId).toList()))
+            .hasSize(allPersons.size());
+    }
+
+    @Test
+    void deleteByLastName_returnsDeletedDocuments() {
+        Person first = Person.builder().id(nextId()).firstName("First").lastName("Temporary").age(51).build();
+        Person second = Person.builder().id(nextId()).firstName("Second").lastName("Temporary").age(52).build();
+        repository.save(first);
+        repository.save(second);
+
+        List<Person> deleted = repository.deleteByLastName("Temporary");
+
+        assertThat(deleted).extracting(Person::getId).containsExactlyInAnyOrder(first.getId(), second.getId());
+        assertThat(repository.findById(first.getId())).isEmpty();
+        assertThat(repository.findById(second.getId())).isEmpty();
+    }
+
+    @Test
+    void deletePersonByLastName_returnsNumberOfDeletedDocuments() {
+        Person first = Person.builder().id(nextId()).firstName("First").lastName("Temporary").age(51).build();
+        repository.save(first);
+
+        assertThat(repository.deletePersonByLastName("Temporary")).isEqualTo(1L);
+        assertThat(repository.findById(first.getId())).isEmpty();
+    }
+
+    @Test
+    void deleteFirstByLastName_deletesOnlyFirstMatchingDocument() {
+        Person younger = Person.builder().id(nextId()).firstName("First").lastName("Temporary").age(51).build();
+        Person older = Person.builder().id(nextId()).firstName("Second").lastName("Temporary").age(52).build();
+        repository.save(younger);
+        repository.save(older);
+
+        repository.deleteFirstByLastNameOrderByAge("Temporary");
+
+        assertThat(repository.findById(younger.getId())).isEmpty();
+        assertThat(repository.findById(older.getId())).hasValue(older);
+        repository.delete(older);
+    }
 }
@@ -0,0 +1,69 @@
+package org.springframework.data.aerospike.repository.query;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.config.AerospikeDataSettings;
+import org.springframework.data.aerospike.convert.AerospikeCustomConversions;
+import org.springframework.data.aerospike.convert.AerospikeTypeAliasAccessor;
+import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.core.AerospikeTemplate;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.sample.PersonRepository;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.ParametersParameterAccessor;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+public class AerospikePartTreeQueryTest {
+
+    @Test
+    public void shouldResolvePropertiesOnceAndBindOnlyParameterValuesPerCall() {
+        AerospikeMappingContext context = spy(new AerospikeMappingContext());
+        AerospikeTemplate template = mock(AerospikeTemplate.class);
+        doReturn(context).when(template).getMappingContext();
+        doReturn(converter()).when(template).getAerospikeConverter();
+        QueryMethod queryMethod = new QueryMethod(
+            ReflectionUtils.findMethod(PersonRepository.class, "findByFirstName", String.class),
+            new DefaultRepositoryMetadata(PersonRepository.class), new SpelAwareProxyProjectionFactory());
+
+        AerospikePartTreeQuery partTreeQuery = new AerospikePartTreeQuery(queryMethod,
+            QueryMethodEvaluationContextProvider.DEFAULT, template, AerospikeQueryCreator.class);
+        clearInvocations(context);
+
+        Query first = prepareQuery(partTreeQuery, queryMethod, "Oliver");
+        Query second = prepareQuery(partTreeQuery, queryMethod, "Peter");
+
+        verify(context, never()).getPersistentPropertyPath(any(PropertyPath.class));
+        assertThat(first.getCriteriaObject().getField()).isEqualTo("firstName");
+        assertThat(first.getCriteriaObject().getValue1().getObject()).isEqualTo("Oliver");
+        assertThat(second.getCriteriaObject().getField()).isEqualTo("firstName");
+        assertThat(second.getCriteriaObject().getValue1().getObject()).isEqualTo("Peter");
+    }
+
+    private static Query prepareQuery(AerospikePartTreeQuery partTreeQuery, QueryMethod queryMethod,
+                                      Object... parameters) {
+        return partTreeQuery.prepareQuery(parameters,
+            new ParametersParameterAccessor(queryMethod.getParameters(), parameters));
+    }
+
+    private static MappingAerospikeConverter converter() {
+        MappingAerospikeConverter converter = new MappingAerospikeConverter(new AerospikeMappingContext(),
+            new AerospikeCustomConversions(Collections.emptyList()), new AerospikeTypeAliasAccessor(),
+            AerospikeDataSettings.builder().build());
+        converter.afterPropertiesSet();
+        return converter;
+    }
+}
@@ -328,6 +328,16 @@ public interface PersonRepository<P extends Person> extends AerospikeRepository<
 
     Long deletePersonByLastName(String lastName);
 
+    /**
+     * Delete persons with the given first name in a background task on the server and wait for its completion
+     */
+    void deleteAllByFirstName(String firstName);
+
+    /**
+     * Delete the first person with the given last name ordered by age
+     */
+    void deleteFirstByLastNameOrderByAge(String lastName);
+
     Page<P> findByAddressIn(List<Address> address, Pageable page);
 
     /**
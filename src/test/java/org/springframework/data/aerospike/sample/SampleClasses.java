@@ -23,6 +23,8 @@ import org.jetbrains.annotations.NotNull;
 import org.joda.time.DateTime;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.aerospike.annotation.Expiration;
+import org.springframework.data.aerospike.annotation.NearCache;
+import org.springframework.data.aerospike.annotation.WriteBehind;
 import org.springframework.data.aerospike.convert.AerospikeReadData;
 import org.springframework.data.aerospike.convert.AerospikeWriteData;
 import org.springframework.data.aerospike.mapping.Document;
@@ -703,6 +705,47 @@ public class SampleClasses {
         }
     }
 
+    @Data
+    @AllArgsConstructor
+    @NearCache(maxSize = 100)
+    public static class NearCachedDocument {
+
+        @Id
+        private String id;
+        private String name;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NearCache(validate = true)
+    public static class ValidatedNearCachedDocument {
+
+        @Id
+        private String id;
+        private String name;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @WriteBehind
+    public static class WriteBehindDocument {
+
+        @Id
+        private String id;
+        private long counter;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @WriteBehind
+    public static class VersionedWriteBehindDocument {
+
+        @Id
+        private String id;
+        @Version
+        private long version;
+    }
+
     @Data
     @AllArgsConstructor
     @Document(collection = "expiration-set", expiration = 1, touchOnRead = true)
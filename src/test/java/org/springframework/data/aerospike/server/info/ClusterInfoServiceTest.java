@@ -0,0 +1,86 @@
+package org.springframework.data.aerospike.server.info;
+
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Info;
+import com.aerospike.client.cluster.Node;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+public class ClusterInfoServiceTest {
+
+    private final IAerospikeClient client = mock(IAerospikeClient.class);
+    private final Node node1 = mock(Node.class);
+    private final Node node2 = mock(Node.class);
+    private final ClusterInfoService service = new ClusterInfoService(client, Runnable::run);
+    private MockedStatic<Info> info;
+
+    @BeforeEach
+    public void setUp() {
+        when(client.getNodes()).thenReturn(new Node[]{node1, node2});
+        when(node1.getName()).thenReturn("node1");
+        when(node2.getName()).thenReturn("node2");
+        info = mockStatic(Info.class);
+        info.when(() -> Info.request(any(), eq(node1), any(String[].class)))
+            .thenReturn(Map.of("sets/test/set", "objects=1", "get-config:context=namespace;id=test", "rf=2"));
+        info.when(() -> Info.request(any(), eq(node2), any(String[].class)))
+            .thenReturn(Map.of("sets/test/set", "objects=2", "get-config:context=namespace;id=test", "rf=2"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        info.close();
+    }
+
+    @Test
+    public void shouldReturnResponsesInOrderOfNodes() {
+        assertThat(service.requestAllNodes("sets/test/set"))
+            .extracting(response -> response.get("sets/test/set"))
+            .containsExactly("objects=1", "objects=2");
+    }
+
+    @Test
+    public void shouldSendCommandsToNodeInSingleRequest() {
+        service.requestAllNodes("sets/test/set", "get-config:context=namespace;id=test");
+
+        info.verify(() -> Info.request(any(), eq(node1), eq("sets/test/set"),
+            eq("get-config:context=namespace;id=test")));
+    }
+
+    @Test
+    public void shouldCacheResponsesOfCommandsWithTtl() {
+        service.requestAllNodes("get-config:context=namespace;id=test");
+        service.requestAllNodes("get-config:context=namespace;id=test");
+
+        info.verify(() -> Info.request(any(), eq(node1), any(String[].class)), times(1));
+    }
+
+    @Test
+    public void shouldNotCacheResponsesOfCommandsWithoutTtl() {
+        service.requestAllNodes("sets/test/set");
+        service.requestAllNodes("sets/test/set");
+
+        info.verify(() -> Info.request(any(), eq(node1), any(String[].class)), times(2));
+    }
+
+    @Test
+    public void shouldRequestAgainAfterInvalidation() {
+        service.setTtl("sets/", 60_000);
+        service.requestAllNodes("sets/test/set");
+        service.invalidate("sets/");
+        service.requestAllNodes("sets/test/set");
+
+        info.verify(() -> Info.request(any(), eq(node1), any(String[].class)), times(2));
+    }
+}